@@ -0,0 +1,52 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.config.CommonsExceptionConverterAutoConfiguration;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates Spring contexts out of {@link CommonsExceptionConverterAutoConfiguration}, so benchmarks measure beans
+ * initialized exactly as in applications.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BenchmarkContexts {
+
+    /**
+     * Starts context with the given properties.
+     *
+     * @param properties properties, for example {@code exception-converter.lookup-mode}
+     * @return started context (to be closed by the caller)
+     */
+    static AnnotationConfigApplicationContext start(Map<String, Object> properties) {
+        var context = new AnnotationConfigApplicationContext();
+        context.getEnvironment()
+                .getPropertySources()
+                .addFirst(new MapPropertySource("benchmark", properties));
+        context.register(CommonsExceptionConverterAutoConfiguration.class);
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * Starts context holding nothing but registry of the given converters, so the registry is initialized exactly as
+     * in applications.
+     *
+     * @param converters converters
+     * @return started context (to be closed by the caller)
+     */
+    static AnnotationConfigApplicationContext start(List<ExceptionConverter<?, ?>> converters) {
+        var context = new AnnotationConfigApplicationContext();
+        context.registerBean(ExceptionConverterRegistry.class, () -> new ExceptionConverterRegistry(converters));
+        context.refresh();
+        return context;
+    }
+
+}
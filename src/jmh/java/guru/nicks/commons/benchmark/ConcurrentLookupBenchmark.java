@@ -0,0 +1,86 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ExceptionConverterRegistry#findConverter(Throwable)} lookup modes under 64-thread contention. Each
+ * thread cycles through exceptions having a converter for their exact class, for their superclass, and no converter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ConcurrentLookupBenchmark {
+
+    private static final Throwable[] EXCEPTIONS = {
+            new IllegalArgumentException("benchmark"),
+            new NumberFormatException("benchmark"),
+            new ConnectException("benchmark"),
+            new IOException("benchmark"),
+            new SecurityException("benchmark"),
+            new UnsupportedOperationException("benchmark"),
+            new IllegalStateException("benchmark"),
+            new RuntimeException("benchmark")
+    };
+
+    @Param({"cache", "class-value", "dispatcher"})
+    private String lookupMode;
+
+    private AnnotationConfigApplicationContext context;
+    private ExceptionConverterRegistry registry;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(Map.of("exception-converter.lookup-mode", lookupMode));
+        registry = context.getBean(ExceptionConverterRegistry.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverter(ThreadState state) {
+        return registry.findConverter(EXCEPTIONS[state.nextIndex()]);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private int index;
+
+        int nextIndex() {
+            index = (index + 1) & (EXCEPTIONS.length - 1);
+            return index;
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+import guru.nicks.commons.exception.visitor.ExceptionConverterFinderVisitor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.bind.MissingRequestValueException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion of exceptions found by {@link ExceptionConverterRegistry}: converters relying on default
+ * {@link ExceptionConverter#convert(Throwable)} vs. those overriding it, and the end-to-end
+ * {@link ExceptionConverterFinderVisitor} path (both direct call and reflective dispatch applications go through).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    private final Throwable defaultConversionCause = new IllegalArgumentException("benchmark");
+    private final Throwable customConversionCause = new MissingRequestValueException("benchmark");
+
+    private AnnotationConfigApplicationContext context;
+    private ExceptionConverter<Throwable, ? extends BusinessException> defaultConverter;
+    private ExceptionConverter<Throwable, ? extends BusinessException> customConverter;
+    private ExceptionConverterFinderVisitor visitor;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(Map.of());
+
+        var registry = context.getBean(ExceptionConverterRegistry.class);
+        defaultConverter = registry.findConverter(defaultConversionCause).orElseThrow();
+        customConverter = registry.findConverter(customConversionCause).orElseThrow();
+        visitor = context.getBean(ExceptionConverterFinderVisitor.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BusinessException defaultConvert() {
+        return defaultConverter.convert(defaultConversionCause);
+    }
+
+    @Benchmark
+    public BusinessException customConvert() {
+        return customConverter.convert(customConversionCause);
+    }
+
+    @Benchmark
+    public Optional<BusinessException> visitorVisit() {
+        return visitor.visit(defaultConversionCause);
+    }
+
+    @Benchmark
+    public Optional<BusinessException> visitorApply() {
+        return visitor.apply(defaultConversionCause);
+    }
+
+}
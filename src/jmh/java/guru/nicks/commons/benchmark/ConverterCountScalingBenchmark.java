@@ -0,0 +1,189 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.http.BadRequestException;
+import guru.nicks.commons.exception.mapper.CacheMissLookups;
+import guru.nicks.commons.exception.mapper.ExceptionConverterMap;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+import guru.nicks.commons.exception.mapper.ExceptionConverterWrapperMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures converter lookup on cache miss depending on the number of converters: the hierarchy walk
+ * {@link ExceptionConverterRegistry} does vs. the linear scan it used to do.
+ * <p>
+ * Source classes are generated: a tree of {@link RuntimeException} subclasses, each node having up to 8 children, with
+ * a converter for each node. Exceptions looked up are an unregistered subclass of the deepest node (found after a
+ * single hierarchy step) and {@link IOException} (no converter at all, so the linear scan checks every converter).
+ * <p>
+ * The hierarchy walk is measured with {@link CacheMissLookups}, so its numbers also include the JFR event enablement
+ * check, the per-thread cache miss counter, and the cache miss listener (profile and observer), which the linear scan
+ * doesn't have.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterCountScalingBenchmark {
+
+    private static final int CHILDREN_PER_NODE = 8;
+
+    /**
+     * Generated classes are defined once per JVM (each fork runs one converter count).
+     */
+    private static final List<Class<? extends RuntimeException>> GENERATED_CLASSES = new ArrayList<>();
+
+    @Param({"20", "200", "2000"})
+    private int converterCount;
+
+    private Class<? extends Throwable> subclassWithoutConverter;
+    private Class<? extends Throwable> classWithoutConverter;
+
+    private AnnotationConfigApplicationContext context;
+    private ExceptionConverterRegistry registry;
+    private ExceptionConverterWrapperMap wrappers;
+
+    @Setup
+    public void setUp() throws IllegalAccessException {
+        List<ExceptionConverter<?, ?>> converters = new ArrayList<>();
+
+        for (int i = 0; i < converterCount; i++) {
+            converters.add(new SyntheticExceptionConverter(generateClass(i)));
+        }
+
+        subclassWithoutConverter = defineClass("Unregistered", generateClass(converterCount - 1));
+        classWithoutConverter = IOException.class;
+
+        context = BenchmarkContexts.start(converters);
+        registry = context.getBean(ExceptionConverterRegistry.class);
+        wrappers = ExceptionConverterWrapperMap.of(ExceptionConverterMap.of(converters));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object hierarchyWalkSubclass() {
+        return CacheMissLookups.findConverterWithoutCache(registry, subclassWithoutConverter);
+    }
+
+    @Benchmark
+    public Object hierarchyWalkNoMatch() {
+        return CacheMissLookups.findConverterWithoutCache(registry, classWithoutConverter);
+    }
+
+    @Benchmark
+    public Object linearScanSubclass() {
+        return linearScan(subclassWithoutConverter);
+    }
+
+    @Benchmark
+    public Object linearScanNoMatch() {
+        return linearScan(classWithoutConverter);
+    }
+
+    /**
+     * Replicates what {@link ExceptionConverterRegistry} used to do on cache miss.
+     */
+    private Optional<ExceptionConverter<Throwable, ? extends BusinessException>> linearScan(
+            Class<? extends Throwable> exceptionClass) {
+        var converter = wrappers.get(exceptionClass);
+
+        if (converter == null) {
+            converter = wrappers.entrySet()
+                    .stream()
+                    .filter(mapEntry -> mapEntry.getKey().isAssignableFrom(exceptionClass))
+                    .findFirst()
+                    .map(Map.Entry::getValue)
+                    .orElse(null);
+        }
+
+        return Optional.ofNullable(converter);
+    }
+
+    private static synchronized Class<? extends RuntimeException> generateClass(int index)
+            throws IllegalAccessException {
+        while (GENERATED_CLASSES.size() <= index) {
+            int i = GENERATED_CLASSES.size();
+            Class<? extends RuntimeException> superclass = (i == 0)
+                    ? RuntimeException.class
+                    : GENERATED_CLASSES.get((i - 1) / CHILDREN_PER_NODE);
+            GENERATED_CLASSES.add(defineClass("Node" + i, superclass));
+        }
+
+        return GENERATED_CLASSES.get(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends RuntimeException> Class<T> defineClass(String simpleName, Class<?> superclass)
+            throws IllegalAccessException {
+        String name = Type.getInternalName(ConverterCountScalingBenchmark.class) + "$Synthetic" + simpleName;
+        String superName = Type.getInternalName(superclass);
+        String constructorDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE);
+
+        var classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, superName, null);
+
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", constructorDescriptor,
+                null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", constructorDescriptor, false);
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        classWriter.visitEnd();
+        return (Class<T>) MethodHandles.lookup().defineClass(classWriter.toByteArray());
+    }
+
+    /**
+     * Converter whose source class is known at runtime only.
+     */
+    private static class SyntheticExceptionConverter implements ExceptionConverter<Throwable, BadRequestException> {
+
+        private final Class<Throwable> sourceClass;
+
+        @SuppressWarnings("unchecked")
+        SyntheticExceptionConverter(Class<? extends Throwable> sourceClass) {
+            this.sourceClass = (Class<Throwable>) sourceClass;
+        }
+
+        @Override
+        public Class<Throwable> getSourceClass() {
+            return sourceClass;
+        }
+
+    }
+
+}
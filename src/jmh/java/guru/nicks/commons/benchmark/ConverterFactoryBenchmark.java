@@ -0,0 +1,83 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.converter.IllegalArgumentExceptionConverter;
+import guru.nicks.commons.exception.http.BadRequestException;
+import guru.nicks.commons.utils.ExceptionUtils;
+import guru.nicks.commons.utils.ReflectionUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares ways of creating target exception out of its cause: the legacy path (generic type resolution plus reflective
+ * factory on each call), the factory bound with {@link java.lang.invoke.LambdaMetafactory}, default
+ * {@link ExceptionConverter#convert(Throwable)}, and plain constructor call as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterFactoryBenchmark {
+
+    private final IllegalArgumentException cause = new IllegalArgumentException("benchmark");
+
+    private IllegalArgumentExceptionConverter converter;
+    private Function<Throwable, BadRequestException> boundFactory;
+
+    @Setup
+    public void setUp() {
+        converter = new IllegalArgumentExceptionConverter();
+        boundFactory = ExceptionConverterDescriptor.getFactory(BadRequestException.class);
+    }
+
+    @Benchmark
+    public BusinessException constructor() {
+        return new BadRequestException(cause);
+    }
+
+    @Benchmark
+    public BusinessException boundFactory() {
+        return boundFactory.apply(cause);
+    }
+
+    @Benchmark
+    public BusinessException defaultConvert() {
+        return converter.convert(cause);
+    }
+
+    /**
+     * Replicates what default {@link ExceptionConverter#convert(Throwable)} used to do.
+     */
+    @Benchmark
+    public BusinessException legacyConvert() {
+        Class<?> exceptionClass = ReflectionUtils
+                .findMaterializedGenericType(converter.getClass(), ExceptionConverter.STATIC_THIS,
+                        BusinessException.class)
+                .orElseThrow();
+
+        try {
+            return (BusinessException) ExceptionUtils
+                    .getExceptionFactory(exceptionClass.asSubclass(BusinessException.class))
+                    .apply(cause);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to instantiate " + exceptionClass.getName(), e);
+        }
+    }
+
+}
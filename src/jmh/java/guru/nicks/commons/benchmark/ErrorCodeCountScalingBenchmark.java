@@ -0,0 +1,214 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ErrorCodeRegistry;
+
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.http.HttpStatus;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErrorCodeMapper} lookups by exception for an error code enum of 500 constants: the per-class cache
+ * {@link ErrorCodeRegistry} has vs. the closest superclass lookup it used to do on each call.
+ * <p>
+ * Exception classes are generated: a tree of {@link BusinessException} subclasses, each node having up to 8 children,
+ * with an error code for each node. Exceptions looked up are instances of the last node and of its unregistered
+ * subclass (which the former lookup finds after checking all the other nodes).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorCodeCountScalingBenchmark {
+
+    private static final int CHILDREN_PER_NODE = 8;
+
+    /**
+     * Exception classes of {@link LargeErrorCode} constants, indexed by ordinal.
+     */
+    private static final List<Class<? extends BusinessException>> GENERATED_CLASSES = new ArrayList<>();
+
+    private ErrorCodeMapper<LargeErrorCode> mapper;
+    private ErrorCodeRegistry<LargeErrorCode> registry;
+
+    private BusinessException registeredException;
+    private BusinessException subclassException;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        generateClasses();
+        mapper = new LargeErrorCodeMapper();
+        registry = mapper.getErrorCodeRegistry();
+
+        Class<? extends BusinessException> lastClass = GENERATED_CLASSES.getLast();
+        registeredException = lastClass.getConstructor().newInstance();
+        subclassException = defineClass("Unregistered", lastClass).getConstructor().newInstance();
+    }
+
+    @Benchmark
+    public LargeErrorCode toErrorCodeRegistered() {
+        return mapper.toErrorCode(registeredException);
+    }
+
+    @Benchmark
+    public LargeErrorCode toErrorCodeSubclass() {
+        return mapper.toErrorCode(subclassException);
+    }
+
+    @Benchmark
+    public HttpStatus toHttpStatusSubclass() {
+        return mapper.toHttpStatus(subclassException);
+    }
+
+    /**
+     * Replicates what {@link ErrorCodeMapper#toErrorCode(BusinessException)} used to do.
+     */
+    @Benchmark
+    public LargeErrorCode closestSuperclassLookupRegistered() {
+        return closestSuperclassLookup(registeredException);
+    }
+
+    /**
+     * Replicates what {@link ErrorCodeMapper#toErrorCode(BusinessException)} used to do.
+     */
+    @Benchmark
+    public LargeErrorCode closestSuperclassLookupSubclass() {
+        return closestSuperclassLookup(subclassException);
+    }
+
+    @SuppressWarnings("deprecation")
+    private LargeErrorCode closestSuperclassLookup(BusinessException e) {
+        return registry.getExceptionClassToErrorCode()
+                .findEntryForClosestSuperclass(e.getClass())
+                .map(Map.Entry::getValue)
+                .orElseGet(mapper::getDefaultErrorCode);
+    }
+
+    private static synchronized void generateClasses() throws IllegalAccessException {
+        while (GENERATED_CLASSES.size() < LargeErrorCode.values().length) {
+            int i = GENERATED_CLASSES.size();
+            Class<? extends BusinessException> superclass = (i == 0)
+                    ? BusinessException.class
+                    : GENERATED_CLASSES.get((i - 1) / CHILDREN_PER_NODE);
+            GENERATED_CLASSES.add(defineClass("Node" + i, superclass));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends BusinessException> Class<T> defineClass(String simpleName, Class<?> superclass)
+            throws IllegalAccessException {
+        String name = Type.getInternalName(ErrorCodeCountScalingBenchmark.class) + "$Synthetic" + simpleName;
+        String superName = Type.getInternalName(superclass);
+        String constructorDescriptor = Type.getMethodDescriptor(Type.VOID_TYPE);
+
+        var classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, name, null, superName, null);
+
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", constructorDescriptor,
+                null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", constructorDescriptor, false);
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        classWriter.visitEnd();
+        return (Class<T>) MethodHandles.lookup().defineClass(classWriter.toByteArray());
+    }
+
+    /**
+     * 500 error codes; their exception classes are generated.
+     */
+    public enum LargeErrorCode {
+
+        E000, E001, E002, E003, E004, E005, E006, E007, E008, E009, E010, E011,
+        E012, E013, E014, E015, E016, E017, E018, E019, E020, E021, E022, E023,
+        E024, E025, E026, E027, E028, E029, E030, E031, E032, E033, E034, E035,
+        E036, E037, E038, E039, E040, E041, E042, E043, E044, E045, E046, E047,
+        E048, E049, E050, E051, E052, E053, E054, E055, E056, E057, E058, E059,
+        E060, E061, E062, E063, E064, E065, E066, E067, E068, E069, E070, E071,
+        E072, E073, E074, E075, E076, E077, E078, E079, E080, E081, E082, E083,
+        E084, E085, E086, E087, E088, E089, E090, E091, E092, E093, E094, E095,
+        E096, E097, E098, E099, E100, E101, E102, E103, E104, E105, E106, E107,
+        E108, E109, E110, E111, E112, E113, E114, E115, E116, E117, E118, E119,
+        E120, E121, E122, E123, E124, E125, E126, E127, E128, E129, E130, E131,
+        E132, E133, E134, E135, E136, E137, E138, E139, E140, E141, E142, E143,
+        E144, E145, E146, E147, E148, E149, E150, E151, E152, E153, E154, E155,
+        E156, E157, E158, E159, E160, E161, E162, E163, E164, E165, E166, E167,
+        E168, E169, E170, E171, E172, E173, E174, E175, E176, E177, E178, E179,
+        E180, E181, E182, E183, E184, E185, E186, E187, E188, E189, E190, E191,
+        E192, E193, E194, E195, E196, E197, E198, E199, E200, E201, E202, E203,
+        E204, E205, E206, E207, E208, E209, E210, E211, E212, E213, E214, E215,
+        E216, E217, E218, E219, E220, E221, E222, E223, E224, E225, E226, E227,
+        E228, E229, E230, E231, E232, E233, E234, E235, E236, E237, E238, E239,
+        E240, E241, E242, E243, E244, E245, E246, E247, E248, E249, E250, E251,
+        E252, E253, E254, E255, E256, E257, E258, E259, E260, E261, E262, E263,
+        E264, E265, E266, E267, E268, E269, E270, E271, E272, E273, E274, E275,
+        E276, E277, E278, E279, E280, E281, E282, E283, E284, E285, E286, E287,
+        E288, E289, E290, E291, E292, E293, E294, E295, E296, E297, E298, E299,
+        E300, E301, E302, E303, E304, E305, E306, E307, E308, E309, E310, E311,
+        E312, E313, E314, E315, E316, E317, E318, E319, E320, E321, E322, E323,
+        E324, E325, E326, E327, E328, E329, E330, E331, E332, E333, E334, E335,
+        E336, E337, E338, E339, E340, E341, E342, E343, E344, E345, E346, E347,
+        E348, E349, E350, E351, E352, E353, E354, E355, E356, E357, E358, E359,
+        E360, E361, E362, E363, E364, E365, E366, E367, E368, E369, E370, E371,
+        E372, E373, E374, E375, E376, E377, E378, E379, E380, E381, E382, E383,
+        E384, E385, E386, E387, E388, E389, E390, E391, E392, E393, E394, E395,
+        E396, E397, E398, E399, E400, E401, E402, E403, E404, E405, E406, E407,
+        E408, E409, E410, E411, E412, E413, E414, E415, E416, E417, E418, E419,
+        E420, E421, E422, E423, E424, E425, E426, E427, E428, E429, E430, E431,
+        E432, E433, E434, E435, E436, E437, E438, E439, E440, E441, E442, E443,
+        E444, E445, E446, E447, E448, E449, E450, E451, E452, E453, E454, E455,
+        E456, E457, E458, E459, E460, E461, E462, E463, E464, E465, E466, E467,
+        E468, E469, E470, E471, E472, E473, E474, E475, E476, E477, E478, E479,
+        E480, E481, E482, E483, E484, E485, E486, E487, E488, E489, E490, E491,
+        E492, E493, E494, E495, E496, E497, E498, E499;
+
+    }
+
+    private static class LargeErrorCodeRegistry extends ErrorCodeRegistry<LargeErrorCode> {
+
+        LargeErrorCodeRegistry() {
+            super(errorCode -> GENERATED_CLASSES.get(errorCode.ordinal()));
+        }
+
+        @Override
+        protected Class<LargeErrorCode> getErrorCodeClass() {
+            return LargeErrorCode.class;
+        }
+
+    }
+
+    @Getter
+    private static class LargeErrorCodeMapper implements ErrorCodeMapper<LargeErrorCode> {
+
+        private final ErrorCodeRegistry<LargeErrorCode> errorCodeRegistry = new LargeErrorCodeRegistry();
+        private final HttpStatus defaultHttpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+        private final LargeErrorCode defaultErrorCode = LargeErrorCode.E000;
+
+    }
+
+}
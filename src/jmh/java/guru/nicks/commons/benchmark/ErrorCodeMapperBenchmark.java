@@ -0,0 +1,135 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.http.BadRequestException;
+import guru.nicks.commons.exception.http.ConflictException;
+import guru.nicks.commons.exception.http.MethodNotAllowedException;
+import guru.nicks.commons.exception.http.NotFoundException;
+import guru.nicks.commons.exception.http.NotImplementedException;
+import guru.nicks.commons.exception.http.PayloadTooLargeException;
+import guru.nicks.commons.exception.http.ServiceTimeoutException;
+import guru.nicks.commons.exception.http.UnauthorizedException;
+import guru.nicks.commons.exception.http.UnsupportedMediaTypeException;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ErrorCodeRegistry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErrorCodeMapper} lookups: exception classes registered as is and their subclasses (which are mapped
+ * via their closest registered superclass), error codes, and HTTP statuses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorCodeMapperBenchmark {
+
+    private final ErrorCodeMapper<BenchmarkErrorCode> mapper = new BenchmarkErrorCodeMapper();
+
+    private final BusinessException registeredException = new ServiceTimeoutException();
+    private final BusinessException subclassException = new UnknownUserException();
+
+    @Benchmark
+    public BenchmarkErrorCode exceptionToErrorCode() {
+        return mapper.toErrorCode(registeredException);
+    }
+
+    @Benchmark
+    public BenchmarkErrorCode exceptionSubclassToErrorCode() {
+        return mapper.toErrorCode(subclassException);
+    }
+
+    @Benchmark
+    public BenchmarkErrorCode httpStatusToErrorCode() {
+        return mapper.toErrorCode(HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    @Benchmark
+    public HttpStatus exceptionToHttpStatus() {
+        return mapper.toHttpStatus(registeredException);
+    }
+
+    @Benchmark
+    public HttpStatus exceptionSubclassToHttpStatus() {
+        return mapper.toHttpStatus(subclassException);
+    }
+
+    @Benchmark
+    public HttpStatus errorCodeToHttpStatus() {
+        return mapper.toHttpStatus(BenchmarkErrorCode.SERVICE_TIMEOUT);
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    public enum BenchmarkErrorCode {
+
+        BAD_REQUEST(BadRequestException.class),
+        UNAUTHORIZED(UnauthorizedException.class),
+        NOT_FOUND(NotFoundException.class),
+        METHOD_NOT_ALLOWED(MethodNotAllowedException.class),
+        CONFLICT(ConflictException.class),
+        PAYLOAD_TOO_LARGE(PayloadTooLargeException.class),
+        UNSUPPORTED_MEDIA_TYPE(UnsupportedMediaTypeException.class),
+        NOT_IMPLEMENTED(NotImplementedException.class),
+        SERVICE_TIMEOUT(ServiceTimeoutException.class),
+        USER_NOT_FOUND(UserNotFoundException.class),
+        INTERNAL_SERVER_ERROR(BusinessException.class);
+
+        private final Class<? extends BusinessException> exceptionClass;
+
+    }
+
+    /**
+     * Registered subclass of a class annotated with {@code @RootHttpStatus}.
+     */
+    public static class UserNotFoundException extends NotFoundException {
+    }
+
+    /**
+     * Unregistered subclass of a registered class.
+     */
+    public static class UnknownUserException extends UserNotFoundException {
+    }
+
+    private static class BenchmarkErrorCodeRegistry extends ErrorCodeRegistry<BenchmarkErrorCode> {
+
+        BenchmarkErrorCodeRegistry() {
+            super(BenchmarkErrorCode::getExceptionClass);
+        }
+
+        @Override
+        protected Class<BenchmarkErrorCode> getErrorCodeClass() {
+            return BenchmarkErrorCode.class;
+        }
+
+    }
+
+    /**
+     * Also used by other benchmarks.
+     */
+    @Getter
+    static class BenchmarkErrorCodeMapper implements ErrorCodeMapper<BenchmarkErrorCode> {
+
+        private final ErrorCodeRegistry<BenchmarkErrorCode> errorCodeRegistry = new BenchmarkErrorCodeRegistry();
+        private final HttpStatus defaultHttpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+        private final BenchmarkErrorCode defaultErrorCode = BenchmarkErrorCode.INTERNAL_SERVER_ERROR;
+
+    }
+
+}
@@ -0,0 +1,116 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.designpattern.SubclassBeforeSuperclassMap;
+import guru.nicks.commons.exception.SubclassBeforeSuperclassExceptionIterator;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures {@link SubclassBeforeSuperclassExceptionIterator} against its former implementation, which collected the
+ * chain into a list and then into {@link SubclassBeforeSuperclassMap} for each exception. Run with {@code -prof gc} to
+ * see allocation rate ({@code gc.alloc.rate.norm}, bytes per operation).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionIteratorBenchmark {
+
+    /**
+     * Chain length; the last one exceeds {@link SubclassBeforeSuperclassExceptionIterator#INLINE_CHAIN_LENGTH}.
+     */
+    @Param({"1", "3", "6", "12"})
+    private int chainLength;
+
+    private Throwable chain;
+
+    @Setup
+    public void setUp() {
+        // mix of related and unrelated classes, so ordering actually moves elements
+        List<Class<? extends Throwable>> classes = List.of(RuntimeException.class, IllegalArgumentException.class,
+                ArithmeticException.class, IllegalStateException.class, NumberFormatException.class,
+                UnsupportedOperationException.class);
+        Throwable cause = null;
+
+        for (int i = chainLength - 1; i >= 0; i--) {
+            cause = create(classes.get(i % classes.size()), cause);
+        }
+
+        chain = cause;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        var iterator = new SubclassBeforeSuperclassExceptionIterator(chain);
+
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    /**
+     * The chain has no suppressed exceptions, so the result is the same as in {@link #iterate(Blackhole)}.
+     */
+    @Benchmark
+    public void iterateTree(Blackhole blackhole) {
+        var iterator = SubclassBeforeSuperclassExceptionIterator.ofTree(chain);
+
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    @Benchmark
+    public void iterateFormerImplementation(Blackhole blackhole) {
+        SubclassBeforeSuperclassMap<Throwable, Throwable> iterationOrder = ExceptionUtils
+                .getThrowableList(chain)
+                .stream()
+                .collect(Collectors.toMap(Throwable::getClass, throwable -> throwable,
+                        (throwable1, throwable2) -> throwable2,
+                        SubclassBeforeSuperclassMap::new));
+        Iterator<Throwable> iterator = iterationOrder.values().iterator();
+
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    /**
+     * Typical usage: stops at the first (most specific) element.
+     */
+    @Benchmark
+    public Optional<Class<?>> acceptUntilResult() {
+        return new SubclassBeforeSuperclassExceptionIterator(chain)
+                .acceptUntilResult(throwable -> Optional.of(throwable.getClass()));
+    }
+
+    private static Throwable create(Class<? extends Throwable> clazz, Throwable cause) {
+        try {
+            Throwable throwable = clazz.getDeclaredConstructor(String.class).newInstance("benchmark");
+            return (cause == null) ? throwable : throwable.initCause(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create " + clazz.getName(), e);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.benchmark.ErrorCodeMapperBenchmark.BenchmarkErrorCode;
+import guru.nicks.commons.benchmark.ErrorCodeMapperBenchmark.BenchmarkErrorCodeMapper;
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.SubclassBeforeSuperclassExceptionIterator;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+import guru.nicks.commons.exception.mapper.ExceptionResolution;
+import guru.nicks.commons.exception.mapper.ExceptionResolver;
+import guru.nicks.commons.exception.visitor.ExceptionConverterFinderVisitor;
+import guru.nicks.commons.exception.visitor.FieldErrorDiscovererVisitor;
+import guru.nicks.commons.rest.dto.FieldErrorDto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExceptionResolver#resolve(Throwable)} against what it replaces: walking the exception chain with
+ * {@link ExceptionConverterFinderVisitor} and {@link FieldErrorDiscovererVisitor} separately, then mapping the result
+ * to error code and HTTP status with {@link ErrorCodeMapper}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionResolverBenchmark {
+
+    private final Throwable exception = new RuntimeException("benchmark",
+            new IllegalArgumentException("benchmark"));
+    private final ErrorCodeMapper<BenchmarkErrorCode> errorCodeMapper = new BenchmarkErrorCodeMapper();
+
+    private AnnotationConfigApplicationContext context;
+    private ExceptionConverterFinderVisitor exceptionConverterFinderVisitor;
+    private FieldErrorDiscovererVisitor fieldErrorDiscovererVisitor;
+    private ExceptionResolver<BenchmarkErrorCode> exceptionResolver;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(Map.of());
+
+        exceptionConverterFinderVisitor = context.getBean(ExceptionConverterFinderVisitor.class);
+        fieldErrorDiscovererVisitor = context.getBean(FieldErrorDiscovererVisitor.class);
+        exceptionResolver = new ExceptionResolver<>(context.getBean(ExceptionConverterRegistry.class),
+                fieldErrorDiscovererVisitor, errorCodeMapper);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ExceptionResolution<BenchmarkErrorCode> resolve() {
+        return exceptionResolver.resolve(exception);
+    }
+
+    @Benchmark
+    public void resolveSeparately(Blackhole blackhole) {
+        BusinessException businessException = new SubclassBeforeSuperclassExceptionIterator(exception)
+                .acceptUntilResult(exceptionConverterFinderVisitor)
+                .orElse(null);
+        List<FieldErrorDto> fieldErrors = new SubclassBeforeSuperclassExceptionIterator(exception)
+                .acceptUntilResult(fieldErrorDiscovererVisitor)
+                .orElse(List.of());
+
+        blackhole.consume(businessException);
+        blackhole.consume(fieldErrors);
+        blackhole.consume(errorCodeMapper.toErrorCode(businessException));
+        blackhole.consume(errorCodeMapper.toHttpStatus(businessException));
+    }
+
+}
@@ -0,0 +1,102 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of JFR events emitted by {@link ExceptionConverterRegistry#convert(Throwable)}: with no recording,
+ * or with a recording using JFR default settings (the events are disabled there), it should match plain lookup and
+ * conversion; with a recording enabling the events it shows the price of recording.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JfrEventBenchmark {
+
+    private static final String[] EVENT_NAMES = {
+            "guru.nicks.commons.exception.ExceptionConversion",
+            "guru.nicks.commons.exception.ConverterLookupMiss"};
+
+    /**
+     * {@code none} - no recording, {@code default} - recording with JFR default settings, {@code enabled} - recording
+     * with the events enabled.
+     */
+    @Param({"none", "default", "enabled"})
+    private String recording;
+
+    private final Throwable cause = new IllegalArgumentException("benchmark");
+
+    private AnnotationConfigApplicationContext context;
+    private ExceptionConverterRegistry registry;
+    private Recording jfrRecording;
+
+    @Setup
+    public void setUp() throws IOException, ParseException {
+        context = BenchmarkContexts.start(Map.of());
+        registry = context.getBean(ExceptionConverterRegistry.class);
+
+        jfrRecording = switch (recording) {
+            case "none" -> null;
+            case "default" -> new Recording(Configuration.getConfiguration("default"));
+            case "enabled" -> {
+                var enabledRecording = new Recording();
+
+                for (String eventName : EVENT_NAMES) {
+                    enabledRecording.enable(eventName).withoutStackTrace();
+                }
+
+                yield enabledRecording;
+            }
+            default -> throw new IllegalStateException("Unknown recording mode: " + recording);
+        };
+
+        if (jfrRecording != null) {
+            jfrRecording.start();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (jfrRecording != null) {
+            jfrRecording.close();
+        }
+
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<BusinessException> findConverterAndConvert() {
+        return registry.findConverter(cause).map(converter -> converter.convert(cause));
+    }
+
+    @Benchmark
+    public Optional<BusinessException> convert() {
+        return registry.convert(cause);
+    }
+
+}
@@ -0,0 +1,93 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.mapper.CacheMissLookups;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExceptionConverterRegistry#findConverter(Throwable)} with built-in converters for exceptions having
+ * a converter for their exact class, a converter for their superclass, and no converter at all. Cache misses are
+ * measured with {@link CacheMissLookups}, so their numbers include not only the class hierarchy walk, but also the JFR
+ * event enablement check, the per-thread cache miss counter, and the cache miss listener (profile and observer).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistryLookupBenchmark {
+
+    private final Throwable exactMatch = new IllegalArgumentException("benchmark");
+    private final Throwable superclassMatch = new NumberFormatException("benchmark");
+    private final Throwable noMatch = new IOException("benchmark");
+
+    @Param({"cache", "dispatcher"})
+    private String lookupMode;
+
+    private AnnotationConfigApplicationContext context;
+    private ExceptionConverterRegistry registry;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start(Map.of("exception-converter.lookup-mode", lookupMode));
+        registry = context.getBean(ExceptionConverterRegistry.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> exactMatch() {
+        return registry.findConverter(exactMatch);
+    }
+
+    @Benchmark
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> superclassMatch() {
+        return registry.findConverter(superclassMatch);
+    }
+
+    @Benchmark
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> noMatch() {
+        return registry.findConverter(noMatch);
+    }
+
+    /**
+     * Doesn't depend on {@link #lookupMode}.
+     */
+    @Benchmark
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> cacheMissSuperclassMatch() {
+        return CacheMissLookups.findConverterWithoutCache(registry, superclassMatch.getClass());
+    }
+
+    /**
+     * Doesn't depend on {@link #lookupMode}.
+     */
+    @Benchmark
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> cacheMissNoMatch() {
+        return CacheMissLookups.findConverterWithoutCache(registry, noMatch.getClass());
+    }
+
+}
@@ -0,0 +1,65 @@
+package guru.nicks.commons.benchmark;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.http.BadRequestException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares creating target exceptions with and without stack traces at call stack depths typical for Spring MVC
+ * request handling. The cost of filling stack trace is proportional to the depth.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StacklessBenchmark {
+
+    private final IllegalArgumentException cause = new IllegalArgumentException("benchmark");
+
+    @Param({"150", "300"})
+    private int depth;
+
+    private Function<Throwable, BadRequestException> factory;
+    private Function<Throwable, BadRequestException> stacklessFactory;
+
+    @Setup
+    public void setUp() {
+        factory = ExceptionConverterDescriptor.getFactory(BadRequestException.class);
+        stacklessFactory = ExceptionConverterDescriptor.findStacklessFactory(BadRequestException.class).orElseThrow();
+    }
+
+    @Benchmark
+    public BusinessException withStackTrace() {
+        return createAtDepth(factory, depth);
+    }
+
+    @Benchmark
+    public BusinessException stackless() {
+        return createAtDepth(stacklessFactory, depth);
+    }
+
+    private BusinessException createAtDepth(Function<Throwable, BadRequestException> exceptionFactory,
+            int remainingDepth) {
+        return (remainingDepth <= 0)
+                ? exceptionFactory.apply(cause)
+                : createAtDepth(exceptionFactory, remainingDepth - 1);
+    }
+
+}
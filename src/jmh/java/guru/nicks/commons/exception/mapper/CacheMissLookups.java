@@ -0,0 +1,33 @@
+package guru.nicks.commons.exception.mapper;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * Gives benchmarks access to what {@link ExceptionConverterRegistry} does on cache miss. Resides in the registry's
+ * package because snapshots aren't public.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheMissLookups {
+
+    /**
+     * Looks up converter in the current snapshot of the registry bypassing its cache, exactly as the snapshot does on
+     * cache miss. Therefore, apart from walking up the class hierarchy, this includes the {@link ConverterLookupMissEvent}
+     * enablement check, the per-thread cache miss counter, and notifying the registry's cache miss listener (the
+     * profile, if any, and {@link ExceptionConverterObserver#onCacheMiss(Class)}).
+     *
+     * @param registry       initialized registry
+     * @param exceptionClass exception class to find converter for
+     * @return optional converter
+     */
+    public static Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverterWithoutCache(
+            ExceptionConverterRegistry registry, Class<? extends Throwable> exceptionClass) {
+        return registry.currentSnapshot().findConverterWithoutCache(exceptionClass);
+    }
+
+}
@@ -1,8 +1,5 @@
 package guru.nicks.commons.exception;
 
-import guru.nicks.commons.utils.ExceptionUtils;
-import guru.nicks.commons.utils.ReflectionUtils;
-
 import org.springframework.core.convert.converter.Converter;
 
 import java.lang.invoke.MethodHandles;
@@ -25,21 +22,28 @@ public interface ExceptionConverter<S extends Throwable, T extends BusinessExcep
      */
     Class<?> STATIC_THIS = MethodHandles.lookup().lookupClass();
 
+    /**
+     * Creates {@code T} with the given cause. The factory is resolved once per target class, so this method doesn't
+     * involve reflection.
+     *
+     * @param cause exception to convert
+     * @return target exception
+     * @throws IllegalStateException failed to create target exception
+     */
     @Override
     default T convert(S cause) {
         var exceptionClass = getTargetClass();
 
         try {
-            @SuppressWarnings("unchecked")
-            T result = (T) ExceptionUtils.getExceptionFactory(exceptionClass).apply(cause);
-            return result;
+            return ExceptionConverterDescriptor.getFactory(exceptionClass).apply(cause);
         } catch (Exception e) {
             throw new IllegalStateException("Failed to instantiate " + exceptionClass.getName(), e);
         }
     }
 
     /**
-     * Extracts {@code S} class out of generic class parameter.
+     * Extracts {@code S} class out of generic class parameter (once per converter class, see
+     * {@link ExceptionConverterDescriptor#forConverterClass(Class)}).
      * <p>
      * Both {@code S} and {@code T} are {@link Throwable}, so this method depends on their order: {@code S} goes first
      * and therefore is found first. This order is not supposed to ever change because {@link Converter} is part of
@@ -50,24 +54,19 @@ public interface ExceptionConverter<S extends Throwable, T extends BusinessExcep
      */
     @SuppressWarnings("unchecked")
     default Class<S> getSourceClass() {
-        return (Class<S>) ReflectionUtils
-                .findMaterializedGenericType(getClass(), STATIC_THIS, Throwable.class)
-                .orElseThrow(() -> new IllegalStateException("Missing generic source class parameter in "
-                        + getClass().getName()));
+        return (Class<S>) ExceptionConverterDescriptor.forConverterClass(getClass()).getSourceClass();
     }
 
     /**
-     * Extracts {@code T} class out of generic parameter.
+     * Extracts {@code T} class out of generic parameter (once per converter class, see
+     * {@link ExceptionConverterDescriptor#forConverterClass(Class)}).
      *
      * @return exception class {@code S} is mapped to
      * @throws IllegalStateException if {@code T} is not found
      */
     @SuppressWarnings("unchecked")
     default Class<T> getTargetClass() {
-        return (Class<T>) ReflectionUtils
-                .findMaterializedGenericType(getClass(), STATIC_THIS, BusinessException.class)
-                .orElseThrow(() -> new IllegalStateException("Missing generic target class parameter in "
-                        + getClass().getName()));
+        return (Class<T>) ExceptionConverterDescriptor.forConverterClass(getClass()).getTargetClass();
     }
 
 }
@@ -0,0 +1,374 @@
+package guru.nicks.commons.exception;
+
+import guru.nicks.commons.exception.converter.BuiltInExceptionConverters;
+import guru.nicks.commons.utils.ExceptionUtils;
+import guru.nicks.commons.utils.ReflectionUtils;
+
+import jakarta.annotation.Nullable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
+
+/**
+ * Holds what {@link ExceptionConverter} needs to know about itself: source class, target class, and target exception
+ * factory. Resolving generic class parameters involves walking the class hierarchy, so it's done once per converter
+ * class and cached in a {@link ClassValue} - which is lock-free and doesn't prevent classes from being unloaded.
+ * <p>
+ * Target exception factories are bound to {@code T(Throwable)} constructors with {@link LambdaMetafactory}, i.e. they
+ * are plain {@link Function} implementations which JIT can inline, unlike reflective constructor calls.
+ * <p>
+ * Descriptors marked as {@link #isStackless() stackless} create target exceptions without filling their stack traces:
+ * with {@code T(String, Throwable, boolean, boolean)} constructor if the target class declares one, otherwise as
+ * instances of generated subclasses (see {@link StacklessExceptionClassGenerator}).
+ *
+ * @param <S> source exception type
+ * @param <T> target exception type
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+public final class ExceptionConverterDescriptor<S extends Throwable, T extends BusinessException> {
+
+    /**
+     * Signature of target exception constructors the factories are bound to.
+     */
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, Throwable.class);
+
+    /**
+     * Signature of target exception constructors accepting {@code writableStackTrace}, same as in {@link Throwable}.
+     */
+    private static final MethodType STACKLESS_CONSTRUCTOR_TYPE = MethodType.methodType(void.class, String.class,
+            Throwable.class, boolean.class, boolean.class);
+
+    /**
+     * Erased signature of {@link Function#apply(Object)}.
+     */
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Descriptors of converter classes: precompiled ones for {@link BuiltInExceptionConverters}, others are built out
+     * of generic class parameters.
+     */
+    private static final ClassValue<ExceptionConverterDescriptor<?, ?>> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected ExceptionConverterDescriptor<?, ?> computeValue(Class<?> converterClass) {
+            return BuiltInExceptionConverters.findDescriptor(converterClass)
+                    .orElseGet(() -> resolve(converterClass));
+        }
+    };
+
+    /**
+     * Factories for target exceptions, keyed by target exception class. Converters whose {@code T} is the same share
+     * the same factory.
+     */
+    private static final ClassValue<Function<Throwable, ? extends BusinessException>> FACTORIES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Function<Throwable, ? extends BusinessException> computeValue(Class<?> targetClass) {
+            return bindFactory((Class<? extends BusinessException>) targetClass);
+        }
+    };
+
+    /**
+     * Factories for target exceptions without stack traces, keyed by target exception class. Target class constructors
+     * accepting {@code writableStackTrace} are preferred over generated subclasses because they keep the class intact.
+     */
+    private static final ClassValue<Optional<Function<Throwable, ? extends BusinessException>>> STACKLESS_FACTORIES =
+            new ClassValue<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Optional<Function<Throwable, ? extends BusinessException>> computeValue(
+                        Class<?> targetClass) {
+                    var businessExceptionClass = (Class<? extends BusinessException>) targetClass;
+                    return bindStacklessFactory(businessExceptionClass)
+                            .or(() -> StacklessExceptionClassGenerator.findSubclass(businessExceptionClass)
+                                    .<Function<Throwable, ? extends BusinessException>>map(
+                                            ExceptionConverterDescriptor::bindFactory));
+                }
+            };
+
+    @Getter
+    private final Class<?> converterClass;
+
+    @Nullable
+    private final Class<S> sourceClass;
+
+    @Nullable
+    private final Class<T> targetClass;
+
+    /**
+     * Whether the converter relies on {@link ExceptionConverter#convert(Throwable)} default implementation, i.e. needs
+     * {@link #getFactory()}.
+     */
+    @Getter
+    private final boolean defaultConversion;
+
+    /**
+     * Whether {@link #getFactory()} should create target exceptions without stack traces.
+     */
+    @Getter
+    private final boolean stackless;
+
+    /**
+     * Returns cached descriptor built out of generic class parameters of the given converter class. Overridden
+     * {@link ExceptionConverter#getSourceClass()} and {@link ExceptionConverter#getTargetClass()} are not taken into
+     * account - see {@link #of(ExceptionConverter)} for that.
+     *
+     * @param converterClass converter class
+     * @return descriptor (never fails even if generic class parameters are missing - its getters do)
+     */
+    public static ExceptionConverterDescriptor<?, ?> forConverterClass(Class<?> converterClass) {
+        checkNotNull(converterClass, "converterClass");
+        return DESCRIPTORS.get(converterClass);
+    }
+
+    /**
+     * Creates descriptor for the given converter instance. Unlike {@link #forConverterClass(Class)}, honors overridden
+     * {@link ExceptionConverter#getSourceClass()} and {@link ExceptionConverter#getTargetClass()}.
+     *
+     * @param converter converter
+     * @param <S>       source exception type
+     * @param <T>       target exception type
+     * @return descriptor
+     * @throws IllegalStateException source or target class can't be retrieved
+     */
+    public static <S extends Throwable, T extends BusinessException> ExceptionConverterDescriptor<S, T> of(
+            ExceptionConverter<S, T> converter) {
+        return of(converter, false);
+    }
+
+    /**
+     * Does the same as {@link #of(ExceptionConverter)}, additionally allowing to create target exceptions without stack
+     * traces.
+     *
+     * @param converter converter
+     * @param stackless whether {@link #getFactory()} should create target exceptions without stack traces (if
+     *                  possible, see {@link #findStacklessFactory(Class)})
+     * @param <S>       source exception type
+     * @param <T>       target exception type
+     * @return descriptor
+     * @throws IllegalStateException source or target class can't be retrieved
+     */
+    public static <S extends Throwable, T extends BusinessException> ExceptionConverterDescriptor<S, T> of(
+            ExceptionConverter<S, T> converter, boolean stackless) {
+        checkNotNull(converter, "converter");
+        return new ExceptionConverterDescriptor<>(converter.getClass(),
+                converter.getSourceClass(), converter.getTargetClass(),
+                forConverterClass(converter.getClass()).isDefaultConversion(), stackless);
+    }
+
+    /**
+     * Creates descriptor out of class literals, without any reflection. Meant for precompiled dispatch tables such as
+     * {@link BuiltInExceptionConverters}.
+     *
+     * @param converterClass    converter class
+     * @param sourceClass       {@code S} class
+     * @param targetClass       {@code T} class
+     * @param defaultConversion whether the converter relies on {@link ExceptionConverter#convert(Throwable)} default
+     *                          implementation
+     * @param <S>               source exception type
+     * @param <T>               target exception type
+     * @return descriptor
+     */
+    public static <S extends Throwable, T extends BusinessException> ExceptionConverterDescriptor<S, T> declare(
+            Class<? extends ExceptionConverter<? super S, ? extends T>> converterClass, Class<S> sourceClass,
+            Class<T> targetClass, boolean defaultConversion) {
+        checkNotNull(converterClass, "converterClass");
+        checkNotNull(sourceClass, "sourceClass");
+        checkNotNull(targetClass, "targetClass");
+        return new ExceptionConverterDescriptor<>(converterClass, sourceClass, targetClass, defaultConversion, false);
+    }
+
+    /**
+     * Returns cached factory creating {@code T} with the given cause.
+     *
+     * @param targetClass target exception class
+     * @param <T>         target exception type
+     * @return factory
+     * @throws IllegalStateException target exception class has no accessible constructor accepting {@link Throwable}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends BusinessException> Function<Throwable, T> getFactory(Class<T> targetClass) {
+        return (Function<Throwable, T>) FACTORIES.get(targetClass);
+    }
+
+    /**
+     * Returns cached factory creating {@code T} with the given cause, without stack trace if requested and possible.
+     *
+     * @param targetClass target exception class
+     * @param stackless   whether target exceptions should be created without stack traces (if
+     *                    {@link #findStacklessFactory(Class)} succeeds)
+     * @param <T>         target exception type
+     * @return factory
+     * @throws IllegalStateException target exception class has no accessible constructor accepting {@link Throwable}
+     */
+    public static <T extends BusinessException> Function<Throwable, T> getFactory(Class<T> targetClass,
+            boolean stackless) {
+        return stackless
+                ? findStacklessFactory(targetClass).orElseGet(() -> getFactory(targetClass))
+                : getFactory(targetClass);
+    }
+
+    /**
+     * Returns cached factory creating {@code T} which doesn't fill its stack trace (the cause has it). Uses
+     * {@code T(String, Throwable, boolean, boolean)} constructor if the target class declares one, otherwise creates
+     * instances of {@code T} subclass generated by {@link StacklessExceptionClassGenerator}.
+     *
+     * @param targetClass target exception class
+     * @param <T>         target exception type
+     * @return optional factory (empty if the target class has no such constructor and can't be subclassed)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends BusinessException> Optional<Function<Throwable, T>> findStacklessFactory(
+            Class<T> targetClass) {
+        return STACKLESS_FACTORIES.get(targetClass).map(factory -> (Function<Throwable, T>) factory);
+    }
+
+    /**
+     * @return exception class to be mapped
+     * @throws IllegalStateException generic source class parameter is missing
+     */
+    public Class<S> getSourceClass() {
+        if (sourceClass == null) {
+            throw new IllegalStateException("Missing generic source class parameter in " + converterClass.getName());
+        }
+
+        return sourceClass;
+    }
+
+    /**
+     * @return exception class {@code S} is mapped to
+     * @throws IllegalStateException generic target class parameter is missing
+     */
+    public Class<T> getTargetClass() {
+        if (targetClass == null) {
+            throw new IllegalStateException("Missing generic target class parameter in " + converterClass.getName());
+        }
+
+        return targetClass;
+    }
+
+    /**
+     * @return factory creating {@code T} with the given cause - without stack trace if this descriptor is
+     *         {@link #isStackless() stackless} and {@link #findStacklessFactory(Class)} succeeds
+     * @throws IllegalStateException generic target class parameter is missing or target exception class has no
+     *                               accessible constructor accepting {@link Throwable}
+     */
+    public Function<Throwable, T> getFactory() {
+        return getFactory(getTargetClass(), stackless);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + converterClass.getName() + ": "
+                + ((sourceClass == null) ? "?" : sourceClass.getName()) + " -> "
+                + ((targetClass == null) ? "?" : targetClass.getName())
+                + (stackless ? ", stackless" : "") + "]";
+    }
+
+    /**
+     * Extracts {@code S} and {@code T} classes out of generic class parameters.
+     * <p>
+     * Both {@code S} and {@code T} are {@link Throwable}, so this method depends on their order: {@code S} goes first
+     * and therefore is found first. This order is not supposed to ever change because
+     * {@link org.springframework.core.convert.converter.Converter} is part of Spring.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S extends Throwable, T extends BusinessException> ExceptionConverterDescriptor<S, T> resolve(
+            Class<?> converterClass) {
+        var sourceClass = (Class<S>) ReflectionUtils
+                .findMaterializedGenericType(converterClass, ExceptionConverter.STATIC_THIS, Throwable.class)
+                .orElse(null);
+        var targetClass = (Class<T>) ReflectionUtils
+                .findMaterializedGenericType(converterClass, ExceptionConverter.STATIC_THIS, BusinessException.class)
+                .orElse(null);
+        return new ExceptionConverterDescriptor<>(converterClass, sourceClass, targetClass,
+                isDefaultConversion(converterClass), false);
+    }
+
+    /**
+     * Checks if {@link ExceptionConverter#convert(Throwable)} is not overridden. If it is, the converter class declares
+     * a bridge method with the erased signature.
+     */
+    private static boolean isDefaultConversion(Class<?> converterClass) {
+        try {
+            return converterClass.getMethod("convert", Throwable.class).getDeclaringClass() == ExceptionConverter.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Binds {@link Function} to {@code T(String, Throwable, boolean, boolean)} constructor, passing the same message as
+     * {@link Throwable#Throwable(Throwable)} does, and {@code writableStackTrace = false}.
+     *
+     * @return optional factory (empty if the target class doesn't declare such a constructor, or it's inaccessible)
+     */
+    private static Optional<Function<Throwable, ? extends BusinessException>> bindStacklessFactory(
+            Class<? extends BusinessException> targetClass) {
+        MethodHandle constructor;
+
+        try {
+            constructor = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup())
+                    .findConstructor(targetClass, STACKLESS_CONSTRUCTOR_TYPE)
+                    .asType(STACKLESS_CONSTRUCTOR_TYPE.changeReturnType(BusinessException.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Optional.empty();
+        }
+
+        return Optional.of(cause -> {
+            String message = (cause == null) ? null : cause.toString();
+
+            try {
+                return (BusinessException) constructor.invokeExact(message, cause, true, false);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to instantiate " + targetClass.getName(), e);
+            }
+        });
+    }
+
+    /**
+     * Generates {@link Function} which calls {@code T(Throwable)} constructor directly. If that's impossible (for
+     * example, the target class is defined by a class loader whose module doesn't grant full access), falls back to
+     * {@link ExceptionUtils#getExceptionFactory(Class)}.
+     *
+     * @throws IllegalStateException target exception class has no accessible constructor accepting {@link Throwable}
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends BusinessException> Function<Throwable, T> bindFactory(Class<T> targetClass) {
+        MethodHandles.Lookup lookup;
+        MethodHandle constructor;
+
+        try {
+            lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+            constructor = lookup.findConstructor(targetClass, CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Failed to bind factory for [" + targetClass.getName()
+                    + "]: no accessible constructor accepting " + Throwable.class.getName(), e);
+        }
+
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class), APPLY_TYPE, constructor, constructor.type());
+            return (Function<Throwable, T>) callSite.getTarget().invoke();
+        } catch (Throwable e) {
+            log.warn("Failed to generate factory for [{}], falling back to reflection: {}",
+                    targetClass.getName(), e.toString());
+            var factory = ExceptionUtils.getExceptionFactory(targetClass);
+            return cause -> (T) factory.apply(cause);
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package guru.nicks.commons.exception;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Generates subclasses of target exceptions whose {@link Throwable#fillInStackTrace()} does nothing. Such exceptions
+ * are cheaper to create: JVM doesn't walk the stack (which is already stored in the cause anyway). Error code mapping
+ * is not affected because it's based on the closest superclass.
+ * <p>
+ * This is a fallback for target classes not declaring {@code (String, Throwable, boolean, boolean)} constructor, see
+ * {@link ExceptionConverterDescriptor#findStacklessFactory(Class)}.
+ * <p>
+ * Each subclass is named {@code <target class name>$$Stackless}, lives in the same package as the target class, and
+ * declares the only constructor accepting {@link Throwable}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+final class StacklessExceptionClassGenerator {
+
+    /**
+     * Appended to target class name.
+     */
+    public static final String CLASS_NAME_SUFFIX = "$$Stackless";
+
+    private static final String CONSTRUCTOR_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE,
+            Type.getType(Throwable.class));
+
+    private static final String FILL_IN_STACK_TRACE_DESCRIPTOR = Type.getMethodDescriptor(
+            Type.getType(Throwable.class));
+
+    private static final ClassValue<Optional<Class<? extends BusinessException>>> SUBCLASSES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Optional<Class<? extends BusinessException>> computeValue(Class<?> targetClass) {
+            return Optional.ofNullable(generate((Class<? extends BusinessException>) targetClass));
+        }
+    };
+
+    /**
+     * Returns cached stackless subclass of the given class.
+     *
+     * @param targetClass target exception class
+     * @param <T>         target exception type
+     * @return optional subclass (empty if the target class is final or its package is closed for class definition)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends BusinessException> Optional<Class<? extends T>> findSubclass(Class<T> targetClass) {
+        return SUBCLASSES.get(targetClass).map(subclass -> (Class<? extends T>) subclass);
+    }
+
+    private static Class<? extends BusinessException> generate(Class<? extends BusinessException> targetClass) {
+        if (Modifier.isFinal(targetClass.getModifiers())) {
+            log.warn("Can't generate stackless subclass of final class [{}]", targetClass.getName());
+            return null;
+        }
+
+        try {
+            if (Modifier.isPrivate(targetClass.getDeclaredConstructor(Throwable.class).getModifiers())) {
+                log.warn("Can't generate stackless subclass of [{}]: its constructor accepting cause is private",
+                        targetClass.getName());
+                return null;
+            }
+        } catch (NoSuchMethodException e) {
+            log.warn("Can't generate stackless subclass of [{}]: no constructor accepting cause",
+                    targetClass.getName());
+            return null;
+        }
+
+        String superName = Type.getInternalName(targetClass);
+        String name = superName + CLASS_NAME_SUFFIX;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+            return defineClass(lookup, superName, name).asSubclass(BusinessException.class);
+        } catch (IllegalAccessException | LinkageError e) {
+            // another thread may have defined the same class concurrently
+            try {
+                return Class.forName(name.replace('/', '.'), false, targetClass.getClassLoader())
+                        .asSubclass(BusinessException.class);
+            } catch (ClassNotFoundException ignored) {
+                log.warn("Failed to generate stackless subclass of [{}]: {}", targetClass.getName(), e.toString());
+                return null;
+            }
+        }
+    }
+
+    private static Class<?> defineClass(MethodHandles.Lookup lookup, String superName, String name)
+            throws IllegalAccessException {
+        var classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                name, null, superName, null);
+
+        // constructor accepting cause
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR,
+                null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ALOAD, 1);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", CONSTRUCTOR_DESCRIPTOR, false);
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        // 'return this' instead of walking the stack
+        method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "fillInStackTrace", FILL_IN_STACK_TRACE_DESCRIPTOR,
+                null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        classWriter.visitEnd();
+        return lookup.defineClass(classWriter.toByteArray());
+    }
+
+}
@@ -5,14 +5,23 @@ import guru.nicks.commons.designpattern.visitor.ReflectionVisitor;
 import guru.nicks.commons.designpattern.visitor.StatefulReflectionVisitor;
 import guru.nicks.commons.exception.http.NotFoundException;
 
+import jakarta.annotation.Nullable;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.springframework.data.util.Streamable;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
 
@@ -26,11 +35,79 @@ import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
  * be notified about something missing (HTTP status 404) and not about just 'something went wrong' (HTTP status 500
  * resulting from the raw {@link Exception}).
  * <p>
+ * Exceptions without cause (the most common case) are iterated over without any ordering or allocation. Orders of other
+ * short chains are cached by chain class signature (see {@link #getOrderCacheHitRate()}), so recurring chains are not
+ * sorted again, and each element is then yielded in constant time. The whole chain has to be collected anyway: any
+ * cause may turn out to be more specific than the exceptions wrapping it.
+ * <p>
+ * {@link #ofTree(Throwable, int, int)} also follows {@link Throwable#getSuppressed()}, which is where aggregate
+ * exceptions (such as the one created by Reactor's {@code Exceptions.multiple()}) keep their parts. The tree is
+ * traversed level by level, with limited depth and breadth, so pathological trees don't take long to process.
+ * <p>
  * Besides such traditional methods as {@link #hasNext()}, {@link #stream()} is supported. There's no thread safety.
  */
 public class SubclassBeforeSuperclassExceptionIterator implements Iterator<Throwable>, Streamable<Throwable> {
 
-    private final Iterator<Throwable> delegate;
+    /**
+     * Chains up to this length (which covers nearly all real-life ones) are ordered in a single array of this size,
+     * without building any lists or maps. Longer chains are ordered with {@link SubclassBeforeSuperclassMap}.
+     */
+    public static final int INLINE_CHAIN_LENGTH = 8;
+
+    /**
+     * Number of slots in the cache of short chain orders (power of 2).
+     */
+    public static final int ORDER_CACHE_CAPACITY = 512;
+
+    /**
+     * Default maximum number of tree levels (including the root exception) traversed by {@link #ofTree(Throwable)}.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 32;
+
+    /**
+     * Default maximum number of exceptions on each tree level traversed by {@link #ofTree(Throwable)}.
+     */
+    public static final int DEFAULT_MAX_BREADTH = 16;
+
+    /**
+     * Iteration orders of short chains, by chain class signature. The same chains recur constantly (for example,
+     * {@code UndeclaredThrowableException -> ConnectException}), so sorting is skipped for them. Direct-mapped: each
+     * signature has exactly one slot (picked by its hash), and a new order replaces the one in its slot. Thus the cache
+     * is bounded and needs no locks (entries are immutable, so racy reads and writes are safe).
+     */
+    private static final ChainOrder[] ORDER_CACHE = new ChainOrder[ORDER_CACHE_CAPACITY];
+
+    private static final LongAdder ORDER_CACHE_HITS = new LongAdder();
+    private static final LongAdder ORDER_CACHE_MISSES = new LongAdder();
+
+    /**
+     * The only chain element if there's no cause (the most common case), {@code null} otherwise.
+     */
+    @Nullable
+    private final Throwable single;
+
+    /**
+     * Chain elements, followed by unused slots (for short chains); {@code null} if there's a {@link #single} element.
+     */
+    @Nullable
+    private final Throwable[] chain;
+
+    /**
+     * Indexes of {@link #chain} elements in iteration order (immutable, may be shared with other instances).
+     * {@code null} means {@link #chain} is already in iteration order.
+     */
+    @Nullable
+    private final byte[] order;
+
+    /**
+     * Number of elements to iterate over.
+     */
+    private final int size;
+
+    /**
+     * Iteration position.
+     */
+    private int position;
 
     /**
      * Constructor.
@@ -40,24 +117,332 @@ public class SubclassBeforeSuperclassExceptionIterator implements Iterator<Throw
     public SubclassBeforeSuperclassExceptionIterator(Throwable t) {
         checkNotNull(t, "exception chain");
 
-        // sort exception classes
-        SubclassBeforeSuperclassMap<Throwable, Throwable> iterationOrder = ExceptionUtils
-                .getThrowableList(t)
-                .stream()
-                .collect(Collectors.toMap(Throwable::getClass, throwable -> throwable,
-                        (throwable1, throwable2) -> throwable2,
-                        SubclassBeforeSuperclassMap::new));
-        delegate = iterationOrder.values().iterator();
+        // nothing to collect and order - and nothing to allocate
+        if (t.getCause() == null) {
+            single = t;
+            chain = null;
+            order = null;
+            size = 1;
+            return;
+        }
+
+        single = null;
+        var inlineChain = new Throwable[INLINE_CHAIN_LENGTH];
+        int length = collectChain(t, inlineChain);
+
+        if (length < 0) {
+            chain = orderLongChain(collectLongChain(t));
+            order = null;
+            size = chain.length;
+        } else {
+            chain = inlineChain;
+            order = findOrder(inlineChain, length);
+            size = order.length;
+        }
+    }
+
+    /**
+     * Called by {@link #ofTree(Throwable, int, int)}.
+     *
+     * @param elements exceptions to iterate over (at least one, no duplicates)
+     */
+    private SubclassBeforeSuperclassExceptionIterator(List<Throwable> elements) {
+        int length = elements.size();
+
+        if (length == 1) {
+            single = elements.getFirst();
+            chain = null;
+            order = null;
+            size = 1;
+            return;
+        }
+
+        single = null;
+
+        if (length <= INLINE_CHAIN_LENGTH) {
+            chain = elements.toArray(new Throwable[length]);
+            order = findOrder(chain, length);
+            size = order.length;
+        } else {
+            chain = orderLongChain(elements);
+            order = null;
+            size = chain.length;
+        }
+    }
+
+    /**
+     * Calls {@link #ofTree(Throwable, int, int)} with {@link #DEFAULT_MAX_DEPTH} and {@link #DEFAULT_MAX_BREADTH}.
+     *
+     * @param t root of exception tree
+     * @return iterator
+     */
+    public static SubclassBeforeSuperclassExceptionIterator ofTree(Throwable t) {
+        return ofTree(t, DEFAULT_MAX_DEPTH, DEFAULT_MAX_BREADTH);
+    }
+
+    /**
+     * Creates iterator over the exception tree: children of each exception are its {@link Throwable#getCause()}
+     * followed by its {@link Throwable#getSuppressed()}. The tree is traversed breadth-first, and the exceptions found
+     * are ordered the same way as a cause chain is (see class comment). For a tree without suppressed exceptions (and
+     * not exceeding the limits), this is the same as {@link #SubclassBeforeSuperclassExceptionIterator(Throwable)}.
+     * <p>
+     * Exceptions already seen (compared by identity) are skipped, so cycles are harmless. At most
+     * {@code maxDepth * maxBreadth} exceptions are visited.
+     *
+     * @param t          root of exception tree
+     * @param maxDepth   maximum number of tree levels, including the root exception (1 means the root only)
+     * @param maxBreadth maximum number of exceptions on each tree level (except for the root one); exceptions beyond
+     *                   this limit are skipped, along with their subtrees
+     * @return iterator
+     * @throws IllegalArgumentException either limit is less than 1
+     */
+    public static SubclassBeforeSuperclassExceptionIterator ofTree(Throwable t, int maxDepth, int maxBreadth) {
+        checkNotNull(t, "exception tree");
+
+        if ((maxDepth < 1) || (maxBreadth < 1)) {
+            throw new IllegalArgumentException("Maximum depth and breadth must be positive, got "
+                    + maxDepth + " and " + maxBreadth);
+        }
+
+        return new SubclassBeforeSuperclassExceptionIterator(collectTree(t, maxDepth, maxBreadth));
+    }
+
+    /**
+     * @return number of short chains whose order was found in cache
+     */
+    public static long getOrderCacheHitCount() {
+        return ORDER_CACHE_HITS.sum();
+    }
+
+    /**
+     * @return number of short chains which had to be sorted (exceptions without cause are not counted)
+     */
+    public static long getOrderCacheMissCount() {
+        return ORDER_CACHE_MISSES.sum();
+    }
+
+    /**
+     * @return share of short chains whose order was found in cache, {@link Double#NaN} if there were no such chains
+     */
+    public static double getOrderCacheHitRate() {
+        long hits = ORDER_CACHE_HITS.sum();
+        long total = hits + ORDER_CACHE_MISSES.sum();
+        return (total == 0)
+                ? Double.NaN
+                : (double) hits / total;
+    }
+
+    /**
+     * Collects the chain the same way as {@link ExceptionUtils#getThrowableList(Throwable)} does: stops on cycles.
+     *
+     * @param t     start of chain
+     * @param chain where to put chain elements
+     * @return chain length, or -1 if the chain doesn't fit into the array
+     */
+    private static int collectChain(Throwable t, Throwable[] chain) {
+        int length = 0;
+
+        for (Throwable throwable = t; (throwable != null) && !contains(chain, length, throwable);
+                throwable = throwable.getCause()) {
+            if (length == chain.length) {
+                return -1;
+            }
+
+            chain[length++] = throwable;
+        }
+
+        return length;
+    }
+
+    private static boolean contains(Throwable[] chain, int length, Throwable throwable) {
+        for (int i = 0; i < length; i++) {
+            if (chain[i] == throwable) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Looks up chain order in cache, computes it on cache miss.
+     *
+     * @param chain  chain elements
+     * @param length chain length (at least 2)
+     * @return indexes of chain elements in iteration order
+     */
+    private static byte[] findOrder(Throwable[] chain, int length) {
+        int hash = 1;
+
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chain[i].getClass().hashCode();
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (ORDER_CACHE_CAPACITY - 1);
+        ChainOrder cached = ORDER_CACHE[slot];
+
+        if ((cached != null) && cached.matches(chain, length)) {
+            ORDER_CACHE_HITS.increment();
+            return cached.order;
+        }
+
+        ORDER_CACHE_MISSES.increment();
+        byte[] order = computeOrder(chain, length);
+        ORDER_CACHE[slot] = new ChainOrder(chain, length, order);
+        return order;
+    }
+
+    /**
+     * Orders chain elements the same way as {@link SubclassBeforeSuperclassMap} does: each class is inserted before the
+     * first of already inserted superclasses (if any), and the last of same-class exceptions takes the place of the
+     * first one. This is insertion sort of element indexes.
+     *
+     * @param chain  chain elements
+     * @param length chain length
+     * @return indexes of chain elements in iteration order (as many as there are distinct classes)
+     */
+    private static byte[] computeOrder(Throwable[] chain, int length) {
+        var indexes = new byte[length];
+        int size = 0;
+
+        for (int i = 0; i < length; i++) {
+            Class<?> clazz = chain[i].getClass();
+            int insertAt = size;
+            boolean sameClass = false;
+
+            for (int j = 0; j < size; j++) {
+                Class<?> orderedClass = chain[indexes[j]].getClass();
+
+                if (orderedClass == clazz) {
+                    insertAt = j;
+                    sameClass = true;
+                    break;
+                }
+
+                if (orderedClass.isAssignableFrom(clazz)) {
+                    insertAt = j;
+                    break;
+                }
+            }
+
+            if (!sameClass) {
+                System.arraycopy(indexes, insertAt, indexes, insertAt + 1, size - insertAt);
+                size++;
+            }
+
+            indexes[insertAt] = (byte) i;
+        }
+
+        return (size == length)
+                ? indexes
+                : Arrays.copyOf(indexes, size);
+    }
+
+    /**
+     * Collects the chain which doesn't fit into {@link #INLINE_CHAIN_LENGTH}. Unlike
+     * {@link ExceptionUtils#getThrowableList(Throwable)}, detects cycles in linear time, which matters for pathologically
+     * long chains.
+     *
+     * @param t start of chain
+     * @return chain elements
+     */
+    private static List<Throwable> collectLongChain(Throwable t) {
+        var chain = new ArrayList<Throwable>(INLINE_CHAIN_LENGTH * 2);
+        Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Throwable throwable = t; (throwable != null) && visited.add(throwable); throwable = throwable.getCause()) {
+            chain.add(throwable);
+        }
+
+        return chain;
+    }
+
+    /**
+     * Collects the exception tree breadth-first.
+     *
+     * @param t          root of exception tree
+     * @param maxDepth   maximum number of tree levels
+     * @param maxBreadth maximum number of exceptions on each tree level
+     * @return tree elements, level by level
+     */
+    private static List<Throwable> collectTree(Throwable t, int maxDepth, int maxBreadth) {
+        // the most common case: nothing to traverse
+        if ((t.getCause() == null) && (t.getSuppressed().length == 0)) {
+            return List.of(t);
+        }
+
+        var elements = new ArrayList<Throwable>();
+        Set<Throwable> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        elements.add(t);
+        visited.add(t);
+        int levelStart = 0;
+
+        for (int depth = 1; (depth < maxDepth) && (levelStart < elements.size()); depth++) {
+            int levelEnd = elements.size();
+            int levelLimit = levelEnd + maxBreadth;
+
+            for (int i = levelStart; (i < levelEnd) && (elements.size() < levelLimit); i++) {
+                Throwable parent = elements.get(i);
+                addChild(parent.getCause(), levelLimit, elements, visited);
+
+                for (Throwable suppressed : parent.getSuppressed()) {
+                    if (!addChild(suppressed, levelLimit, elements, visited)) {
+                        break;
+                    }
+                }
+            }
+
+            levelStart = levelEnd;
+        }
+
+        return elements;
+    }
+
+    /**
+     * Adds tree element unless it's {@code null}, or has been seen already, or the tree level is full.
+     *
+     * @return {@code false} if the tree level is full
+     */
+    private static boolean addChild(@Nullable Throwable child, int levelLimit, List<Throwable> elements,
+            Set<Throwable> visited) {
+        if (elements.size() >= levelLimit) {
+            return false;
+        }
+
+        if ((child != null) && visited.add(child)) {
+            elements.add(child);
+        }
+
+        return true;
+    }
+
+    private static Throwable[] orderLongChain(List<Throwable> chain) {
+        var iterationOrder = new SubclassBeforeSuperclassMap<Throwable, Throwable>();
+
+        // the last of same-class exceptions takes the place of the first one
+        for (Throwable throwable : chain) {
+            iterationOrder.put(throwable.getClass(), throwable);
+        }
+
+        return iterationOrder.values().toArray(Throwable[]::new);
     }
 
     @Override
     public boolean hasNext() {
-        return delegate.hasNext();
+        return position < size;
     }
 
     @Override
     public Throwable next() {
-        return delegate.next();
+        if (position >= size) {
+            throw new NoSuchElementException();
+        }
+
+        Throwable next = (chain == null)
+                ? single
+                : chain[(order == null) ? position : order[position]];
+        position++;
+        return next;
     }
 
     @Override
@@ -74,10 +459,16 @@ public class SubclassBeforeSuperclassExceptionIterator implements Iterator<Throw
      * @return non-empty {@link Optional} if visitor has returned something
      */
     public <O> Optional<O> acceptUntilResult(Function<? super Throwable, Optional<O>> visitor) {
-        return stream()
-                .map(visitor)
-                .flatMap(Optional::stream)
-                .findFirst();
+        // plain loop instead of stream pipeline: nothing is allocated besides what visitor allocates
+        while (hasNext()) {
+            Optional<O> result = visitor.apply(next());
+
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+
+        return Optional.empty();
     }
 
     /**
@@ -96,10 +487,50 @@ public class SubclassBeforeSuperclassExceptionIterator implements Iterator<Throw
      */
     public <S, O> Optional<O> acceptUntilResult(BiFunction<? super Throwable, ? super S, Optional<O>> visitor,
             S visitorState) {
-        return stream()
-                .map(t -> visitor.apply(t, visitorState))
-                .flatMap(Optional::stream)
-                .findFirst();
+        while (hasNext()) {
+            Optional<O> result = visitor.apply(next(), visitorState);
+
+            if (result.isPresent()) {
+                return result;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Cached order of a short chain. Classes are referenced weakly, so caching doesn't prevent class unloading.
+     */
+    private static final class ChainOrder {
+
+        private final WeakReference<Class<?>>[] classes;
+        private final byte[] order;
+
+        @SuppressWarnings("unchecked")
+        ChainOrder(Throwable[] chain, int length, byte[] order) {
+            classes = new WeakReference[length];
+
+            for (int i = 0; i < length; i++) {
+                classes[i] = new WeakReference<>(chain[i].getClass());
+            }
+
+            this.order = order;
+        }
+
+        boolean matches(Throwable[] chain, int length) {
+            if (classes.length != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (classes[i].get() != chain[i].getClass()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
     }
 
 }
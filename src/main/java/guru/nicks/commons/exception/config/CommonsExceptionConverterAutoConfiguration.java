@@ -7,6 +7,7 @@ import guru.nicks.commons.exception.converter.BusinessExceptionConverter;
 import guru.nicks.commons.exception.converter.ConnectExceptionConverter;
 import guru.nicks.commons.exception.converter.ConversionFailedExceptionConverter;
 import guru.nicks.commons.exception.converter.DateTimeParseExceptionConverter;
+import guru.nicks.commons.exception.converter.FeignExceptionConverter;
 import guru.nicks.commons.exception.converter.HttpMediaTypeNotSupportedExceptionConverter;
 import guru.nicks.commons.exception.converter.HttpMessageNotReadableExceptionConverter;
 import guru.nicks.commons.exception.converter.HttpRequestMethodNotSupportedExceptionConverter;
@@ -19,18 +20,30 @@ import guru.nicks.commons.exception.converter.MultipartExceptionConverter;
 import guru.nicks.commons.exception.converter.NoFallbackAvailableExceptionConverter;
 import guru.nicks.commons.exception.converter.NoResourceFoundExceptionConverter;
 import guru.nicks.commons.exception.converter.PropertyReferenceExceptionConverter;
+import guru.nicks.commons.exception.converter.RestClientResponseExceptionConverter;
 import guru.nicks.commons.exception.converter.SecurityExceptionConverter;
 import guru.nicks.commons.exception.converter.UnsupportedOperationExceptionConverter;
 import guru.nicks.commons.exception.converter.ValidationExceptionConverter;
+import guru.nicks.commons.exception.converter.WebClientResponseExceptionConverter;
+import guru.nicks.commons.exception.impl.MicrometerExceptionConverterObserver;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ExceptionConverterObserver;
 import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+import guru.nicks.commons.exception.mapper.ExceptionResolver;
 import guru.nicks.commons.exception.visitor.ExceptionConverterFinderVisitor;
 import guru.nicks.commons.exception.visitor.FieldErrorDiscovererVisitor;
 import guru.nicks.commons.rest.v1.mapper.FieldErrorMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 
@@ -38,7 +51,10 @@ import java.util.List;
  * Autoconfiguration for exception converter beans. Creates beans for all exception converters if they are not already
  * defined in the Spring context. This allows for overriding of specific converters while providing sensible defaults.
  */
-@AutoConfiguration
+// meter registries are created by Spring Boot Actuator autoconfiguration, if any
+@AutoConfiguration(afterName =
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties(ExceptionConverterProperties.class)
 @Slf4j
 public class CommonsExceptionConverterAutoConfiguration {
 
@@ -302,13 +318,17 @@ public class CommonsExceptionConverterAutoConfiguration {
      * Creates {@link ExceptionConverterRegistry} bean if not already present.
      *
      * @param exceptionConverters list of all exception converter beans
+     * @param properties          registry settings
+     * @param observer            registry observer, optional
      * @return registry bean
      */
     @Bean
     @ConditionalOnMissingBean
-    public ExceptionConverterRegistry exceptionConverterRegistry(List<ExceptionConverter<?, ?>> exceptionConverters) {
+    public ExceptionConverterRegistry exceptionConverterRegistry(List<ExceptionConverter<?, ?>> exceptionConverters,
+            ExceptionConverterProperties properties, ObjectProvider<ExceptionConverterObserver> observer) {
         log.debug("Building {} bean", ExceptionConverterRegistry.class.getSimpleName());
-        return new ExceptionConverterRegistry(exceptionConverters);
+        return new ExceptionConverterRegistry(exceptionConverters, properties,
+                observer.getIfUnique(() -> ExceptionConverterObserver.NOOP));
     }
 
     // Mapper beans
@@ -354,4 +374,126 @@ public class CommonsExceptionConverterAutoConfiguration {
         return new ExceptionConverterFinderVisitor(exceptionConverterRegistry);
     }
 
+    // HTTP client exception converter beans
+
+    /**
+     * Instantiated if {@link ErrorCodeMapper} bean exists: HTTP client exceptions are converted by the downstream HTTP
+     * status, which is mapped to error codes by that bean.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(ErrorCodeMapper.class)
+    public static class HttpClientConverterConfiguration {
+
+        /**
+         * Creates {@link FeignExceptionConverter} bean if not already present.
+         *
+         * @param errorCodeMapper error code mapper
+         * @param properties      registry settings, including which target exceptions to create without stack traces
+         * @return converter bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public FeignExceptionConverter feignExceptionConverter(
+                ErrorCodeMapper<?> errorCodeMapper, ExceptionConverterProperties properties) {
+            log.debug("Building {} bean", FeignExceptionConverter.class.getSimpleName());
+            return new FeignExceptionConverter(errorCodeMapper, properties.getStackless());
+        }
+
+        /**
+         * Creates {@link RestClientResponseExceptionConverter} bean if not already present.
+         *
+         * @param errorCodeMapper error code mapper
+         * @param properties      registry settings, including which target exceptions to create without stack traces
+         * @return converter bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public RestClientResponseExceptionConverter restClientResponseExceptionConverter(
+                ErrorCodeMapper<?> errorCodeMapper, ExceptionConverterProperties properties) {
+            log.debug("Building {} bean", RestClientResponseExceptionConverter.class.getSimpleName());
+            return new RestClientResponseExceptionConverter(errorCodeMapper, properties.getStackless());
+        }
+
+    }
+
+    /**
+     * Instantiated if Spring WebFlux is on classpath and {@link ErrorCodeMapper} bean exists.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClientResponseException")
+    @ConditionalOnBean(ErrorCodeMapper.class)
+    public static class WebClientConverterConfiguration {
+
+        /**
+         * Creates {@link WebClientResponseExceptionConverter} bean if not already present.
+         *
+         * @param errorCodeMapper error code mapper
+         * @param properties      registry settings, including which target exceptions to create without stack traces
+         * @return converter bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public WebClientResponseExceptionConverter webClientResponseExceptionConverter(
+                ErrorCodeMapper<?> errorCodeMapper, ExceptionConverterProperties properties) {
+            log.debug("Building {} bean", WebClientResponseExceptionConverter.class.getSimpleName());
+            return new WebClientResponseExceptionConverter(errorCodeMapper, properties.getStackless());
+        }
+
+    }
+
+    // Resolver beans
+
+    /**
+     * Instantiated if {@link ErrorCodeMapper} bean exists: resolved exceptions are mapped to error codes and HTTP
+     * statuses by that bean.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(ErrorCodeMapper.class)
+    public static class ExceptionResolverConfiguration {
+
+        /**
+         * Creates {@link ExceptionResolver} bean if not already present.
+         *
+         * @param exceptionConverterRegistry  exception converter registry
+         * @param fieldErrorDiscovererVisitor field error discoverer visitor
+         * @param errorCodeMapper             error code mapper
+         * @return resolver bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public ExceptionResolver<?> exceptionResolver(ExceptionConverterRegistry exceptionConverterRegistry,
+                FieldErrorDiscovererVisitor fieldErrorDiscovererVisitor, ErrorCodeMapper<?> errorCodeMapper) {
+            log.debug("Building {} bean", ExceptionResolver.class.getSimpleName());
+            return new ExceptionResolver<>(exceptionConverterRegistry, fieldErrorDiscovererVisitor, errorCodeMapper);
+        }
+
+    }
+
+    // Metrics beans
+
+    /**
+     * Instantiated if Micrometer is on classpath and {@link MeterRegistry} bean exists.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    public static class MetricsConfiguration {
+
+        /**
+         * Creates {@link MicrometerExceptionConverterObserver} bean if not already present.
+         *
+         * @param meterRegistry   meter registry
+         * @param errorCodeMapper error code mapper to tag conversions with error codes, optional
+         * @return observer bean
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public MicrometerExceptionConverterObserver micrometerExceptionConverterObserver(MeterRegistry meterRegistry,
+                ObjectProvider<ErrorCodeMapper<?>> errorCodeMapper) {
+            log.debug("Building {} bean", MicrometerExceptionConverterObserver.class.getSimpleName());
+            return new MicrometerExceptionConverterObserver(meterRegistry, errorCodeMapper.getIfUnique());
+        }
+
+    }
+
 }
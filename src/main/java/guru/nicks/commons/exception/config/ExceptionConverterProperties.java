@@ -0,0 +1,210 @@
+package guru.nicks.commons.exception.config;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Settings of {@link ExceptionConverterRegistry}. Defaults are used if this bean is not configured explicitly.
+ */
+@ConfigurationProperties(prefix = "exception-converter")
+@Getter
+@Setter
+public class ExceptionConverterProperties {
+
+    /**
+     * How {@link ExceptionConverterRegistry#findConverter(Throwable)} finds converters.
+     */
+    private LookupMode lookupMode = LookupMode.CACHE;
+
+    /**
+     * Whether {@link LookupMode#CACHE} holds exception classes weakly, so classes no longer used elsewhere (and their
+     * class loaders) can be unloaded, for example after hot redeployment or plugin unloading. Otherwise they stay in
+     * the cache until they expire. Weak keys cost a small allocation per lookup; {@link LookupMode#CLASS_VALUE} doesn't
+     * pin classes either and has no such cost.
+     */
+    private boolean weakCacheKeys;
+
+    /**
+     * How thoroughly converters are verified at startup.
+     */
+    private Verification verification = Verification.FULL;
+
+    /**
+     * When {@link ExceptionConverterRegistry} is initialized.
+     */
+    private Initialization initialization = Initialization.EAGER;
+
+    /**
+     * Creating target exceptions without stack traces.
+     */
+    private Stackless stackless = new Stackless();
+
+    /**
+     * Looking up converters in advance.
+     */
+    private Prepopulation prepopulation = new Prepopulation();
+
+    /**
+     * Remembering exception classes across restarts.
+     */
+    private Profile profile = new Profile();
+
+    /**
+     * Converter lookup strategies. All of them find the same converters.
+     */
+    public enum LookupMode {
+
+        /**
+         * Map lookup, with results cached by exception class (see {@link ExceptionConverterProperties#isWeakCacheKeys()}).
+         */
+        CACHE,
+
+        /**
+         * Results are stored in {@link ClassValue} attached to each exception class: no locks, no eviction
+         * bookkeeping, and the results go away together with the exception class (its class loader is not pinned).
+         */
+        CLASS_VALUE,
+
+        /**
+         * Chain of {@code instanceof} checks compiled into a hidden class at startup, no cache needed. Falls back to
+         * {@link #CACHE} if some source classes are not accessible from the registry package.
+         */
+        DISPATCHER
+
+    }
+
+    /**
+     * Startup checks of converters. Their duration is logged.
+     */
+    public enum Verification {
+
+        /**
+         * {@link #STRUCTURAL} checks plus calling each converter with a sample exception.
+         */
+        FULL,
+
+        /**
+         * Converter order and target exception factories are checked, converters are not called.
+         */
+        STRUCTURAL,
+
+        /**
+         * No checks, for the fastest startup once the set of converters is known to be valid. Target exception
+         * factories are still bound at startup because conversion needs them, so missing constructors are reported
+         * anyway (though with a less detailed message).
+         */
+        OFF
+
+    }
+
+    /**
+     * Registry initialization strategies.
+     */
+    public enum Initialization {
+
+        /**
+         * During bean creation, so misconfigured converters fail application startup.
+         */
+        EAGER,
+
+        /**
+         * In a background virtual thread started during bean creation, so the application becomes ready sooner.
+         * Registry methods called before initialization is over wait for it; if it fails, they throw
+         * {@link IllegalStateException}.
+         */
+        BACKGROUND
+
+    }
+
+    /**
+     * Target exceptions created by converters relying on default conversion (i.e. not overriding
+     * {@code ExceptionConverter.convert()}) can skip filling their stack traces, which is costly for deep stacks and
+     * useless because the cause has the same stack trace.
+     * <p>
+     * Target classes declaring {@code (String message, Throwable cause, boolean enableSuppression,
+     * boolean writableStackTrace)} constructor are created with it as usual. Others are created as instances of their
+     * generated subclasses named {@code <target class name>$$Stackless}, so {@code getClass()} of such exceptions is
+     * not the target class (but {@code instanceof} checks and error code mapping work as before).
+     */
+    @Getter
+    @Setter
+    public static class Stackless {
+
+        /**
+         * Whether all target exceptions should be created without stack traces. Target exceptions whose classes
+         * neither declare a constructor accepting {@code writableStackTrace} nor can be subclassed are created as usual.
+         */
+        private boolean enabled;
+
+        /**
+         * Target exception classes to create without stack traces even if {@link #isEnabled()} is {@code false}. If
+         * any of them neither declares a constructor accepting {@code writableStackTrace} nor can be subclassed, the
+         * registry fails to start.
+         */
+        private Set<Class<? extends BusinessException>> targetClasses = new LinkedHashSet<>();
+
+        /**
+         * Checks if the given target exception class should be created without stack trace.
+         *
+         * @param targetClass target exception class
+         * @return {@code true} if so
+         */
+        public boolean isStackless(Class<?> targetClass) {
+            return enabled || targetClasses.contains(targetClass);
+        }
+
+    }
+
+    /**
+     * The first lookup of each exception class is slower than the next ones because its result is not cached yet (see
+     * {@link LookupMode}). To avoid latency spikes right after deployment, the registry can scan packages at startup,
+     * in background, and look up converters for all concrete subclasses of the registered source classes found there.
+     */
+    @Getter
+    @Setter
+    public static class Prepopulation {
+
+        /**
+         * Packages to scan (including subpackages). Empty list disables pre-population.
+         */
+        private List<String> packages = new ArrayList<>();
+
+    }
+
+    /**
+     * The registry can save names of exception classes it has looked up converters for, and look them up in advance on
+     * the next start (like {@link Prepopulation}, but only for classes actually seen). Not applicable to
+     * {@link LookupMode#DISPATCHER} which caches nothing.
+     */
+    @Getter
+    @Setter
+    public static class Profile {
+
+        /**
+         * Local file to save class names to (on shutdown and, optionally, periodically) and load them from (on
+         * startup). {@code null} disables the profile.
+         */
+        @Nullable
+        private Path file;
+
+        /**
+         * How often to save the profile, in addition to saving it on shutdown. {@code null} means on shutdown only.
+         */
+        @Nullable
+        private Duration saveInterval;
+
+    }
+
+}
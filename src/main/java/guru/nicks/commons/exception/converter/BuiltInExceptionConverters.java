@@ -0,0 +1,128 @@
+package guru.nicks.commons.exception.converter;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.http.BadRequestException;
+import guru.nicks.commons.exception.http.ConflictException;
+import guru.nicks.commons.exception.http.MethodNotAllowedException;
+import guru.nicks.commons.exception.http.NotFoundException;
+import guru.nicks.commons.exception.http.NotImplementedException;
+import guru.nicks.commons.exception.http.PayloadTooLargeException;
+import guru.nicks.commons.exception.http.ServiceTimeoutException;
+import guru.nicks.commons.exception.http.UnauthorizedException;
+import guru.nicks.commons.exception.http.UnsupportedMediaTypeException;
+
+import feign.FeignException;
+import jakarta.validation.ValidationException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.client.circuitbreaker.NoFallbackAvailableException;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.validation.BindException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingRequestValueException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import java.net.ConnectException;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Precompiled dispatch table for converters declared in this package: source and target classes are class literals
+ * resolved by the compiler, so describing built-in converters involves no generic type resolution and no reflective
+ * lookups of overridden methods.
+ * <p>
+ * WARNING: when adding a converter to this package, declare it here too (a test verifies this table against generic
+ * class parameters). Converters missing from this table still work, they're just described reflectively - this is the
+ * case for converters of exceptions from optional dependencies, such as {@link WebClientResponseExceptionConverter}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BuiltInExceptionConverters {
+
+    /**
+     * Keys are converter classes.
+     */
+    private static final Map<Class<?>, ExceptionConverterDescriptor<?, ?>> DESCRIPTORS = Stream.of(
+                    // rely on default conversion
+                    ExceptionConverterDescriptor.declare(AccessDeniedExceptionConverter.class,
+                            AccessDeniedException.class, UnauthorizedException.class, true),
+                    ExceptionConverterDescriptor.declare(BindExceptionConverter.class,
+                            BindException.class, BadRequestException.class, true),
+                    ExceptionConverterDescriptor.declare(ConnectExceptionConverter.class,
+                            ConnectException.class, ServiceTimeoutException.class, true),
+                    ExceptionConverterDescriptor.declare(ConversionFailedExceptionConverter.class,
+                            ConversionFailedException.class, BadRequestException.class, true),
+                    ExceptionConverterDescriptor.declare(DateTimeParseExceptionConverter.class,
+                            DateTimeParseException.class, BadRequestException.class, true),
+                    ExceptionConverterDescriptor.declare(HttpMediaTypeNotSupportedExceptionConverter.class,
+                            HttpMediaTypeNotSupportedException.class, UnsupportedMediaTypeException.class, true),
+                    ExceptionConverterDescriptor.declare(HttpMessageNotReadableExceptionConverter.class,
+                            HttpMessageNotReadableException.class, BadRequestException.class, true),
+                    ExceptionConverterDescriptor.declare(HttpRequestMethodNotSupportedExceptionConverter.class,
+                            HttpRequestMethodNotSupportedException.class, MethodNotAllowedException.class, true),
+                    ExceptionConverterDescriptor.declare(IllegalArgumentExceptionConverter.class,
+                            IllegalArgumentException.class, BadRequestException.class, true),
+                    ExceptionConverterDescriptor.declare(IllegalStateExceptionConverter.class,
+                            IllegalStateException.class, ConflictException.class, true),
+                    ExceptionConverterDescriptor.declare(MethodArgumentMismatchExceptionConverter.class,
+                            MethodArgumentTypeMismatchException.class, BadRequestException.class, true),
+                    ExceptionConverterDescriptor.declare(MultipartExceptionConverter.class,
+                            MultipartException.class, PayloadTooLargeException.class, true),
+                    ExceptionConverterDescriptor.declare(NoFallbackAvailableExceptionConverter.class,
+                            NoFallbackAvailableException.class, ServiceTimeoutException.class, true),
+                    ExceptionConverterDescriptor.declare(NoResourceFoundExceptionConverter.class,
+                            NoResourceFoundException.class, NotFoundException.class, true),
+                    ExceptionConverterDescriptor.declare(SecurityExceptionConverter.class,
+                            SecurityException.class, UnauthorizedException.class, true),
+                    ExceptionConverterDescriptor.declare(UnsupportedOperationExceptionConverter.class,
+                            UnsupportedOperationException.class, NotImplementedException.class, true),
+                    ExceptionConverterDescriptor.declare(ValidationExceptionConverter.class,
+                            ValidationException.class, BadRequestException.class, true),
+                    // override conversion
+                    ExceptionConverterDescriptor.declare(BusinessExceptionConverter.class,
+                            BusinessException.class, BusinessException.class, false),
+                    ExceptionConverterDescriptor.declare(FeignExceptionConverter.class,
+                            FeignException.class, BusinessException.class, false),
+                    ExceptionConverterDescriptor.declare(MissingRequestHeaderExceptionConverter.class,
+                            MissingRequestHeaderException.class, BadRequestException.class, false),
+                    ExceptionConverterDescriptor.declare(MissingRequestValueExceptionConverter.class,
+                            MissingRequestValueException.class, BadRequestException.class, false),
+                    ExceptionConverterDescriptor.declare(PropertyReferenceExceptionConverter.class,
+                            PropertyReferenceException.class, BadRequestException.class, false),
+                    ExceptionConverterDescriptor.declare(RestClientResponseExceptionConverter.class,
+                            RestClientResponseException.class, BusinessException.class, false))
+            .collect(Collectors.toUnmodifiableMap(ExceptionConverterDescriptor::getConverterClass,
+                    Function.identity()));
+
+    /**
+     * Looks up precompiled descriptor. Subclasses of built-in converters are not found on purpose: they may override
+     * anything.
+     *
+     * @param converterClass converter class
+     * @return optional descriptor
+     */
+    public static Optional<ExceptionConverterDescriptor<?, ?>> findDescriptor(Class<?> converterClass) {
+        return Optional.ofNullable(DESCRIPTORS.get(converterClass));
+    }
+
+    /**
+     * @return all precompiled descriptors
+     */
+    public static Collection<ExceptionConverterDescriptor<?, ?>> getDescriptors() {
+        return DESCRIPTORS.values();
+    }
+
+}
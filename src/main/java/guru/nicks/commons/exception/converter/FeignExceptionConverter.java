@@ -0,0 +1,28 @@
+package guru.nicks.commons.exception.converter;
+
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+
+import feign.FeignException;
+
+/**
+ * {@link FeignException} is thrown by Feign clients if the downstream service responds with an error status, or doesn't
+ * respond at all (then the status is negative, and the default error code applies).
+ */
+public class FeignExceptionConverter extends HttpStatusExceptionConverter<FeignException> {
+
+    public FeignExceptionConverter(ErrorCodeMapper<?> errorCodeMapper) {
+        super(errorCodeMapper);
+    }
+
+    public FeignExceptionConverter(ErrorCodeMapper<?> errorCodeMapper,
+            ExceptionConverterProperties.Stackless stackless) {
+        super(errorCodeMapper, stackless);
+    }
+
+    @Override
+    protected int getStatusCode(FeignException cause) {
+        return cause.status();
+    }
+
+}
@@ -0,0 +1,140 @@
+package guru.nicks.commons.exception.converter;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.RootHttpStatus;
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ErrorCodeRegistry;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
+
+/**
+ * Base class for converters of exceptions thrown by HTTP clients when a downstream service responds with an error
+ * status. The target exception is picked by that status: it's the exception class of the error code the status is
+ * mapped to in {@link ErrorCodeRegistry#getHttpStatusToErrorCode()} (i.e. the one annotated with
+ * {@link RootHttpStatus @RootHttpStatus}), with fallback to {@link ErrorCodeMapper#getDefaultErrorCode()}.
+ * <p>
+ * Target exception factories are indexed by status code in advance, so conversion is an array lookup. They honor
+ * {@link ExceptionConverterProperties.Stackless} settings, just like factories of converters relying on default
+ * conversion. Response bodies are never read.
+ *
+ * @param <S> source exception type
+ */
+public abstract class HttpStatusExceptionConverter<S extends Throwable>
+        implements ExceptionConverter<S, BusinessException> {
+
+    /**
+     * Status codes are expected to be less than this value; others (as well as negative ones, which some clients
+     * report if there was no response) are converted with the fallback factory.
+     */
+    public static final int MAX_STATUS_CODE = 600;
+
+    /**
+     * Target exception factories indexed by status code.
+     */
+    private final Function<Throwable, ? extends BusinessException>[] factories;
+
+    /**
+     * Used for status codes missing from {@link ErrorCodeRegistry#getHttpStatusToErrorCode()} and those out of
+     * {@link #factories} bounds.
+     */
+    private final Function<Throwable, ? extends BusinessException> fallbackFactory;
+
+    /**
+     * Creates converter whose target exceptions have stack traces.
+     *
+     * @param errorCodeMapper provides mapping of HTTP statuses to error codes, and error codes to exception classes
+     * @throws IllegalStateException an exception class has no accessible constructor accepting {@link Throwable}
+     */
+    protected HttpStatusExceptionConverter(ErrorCodeMapper<?> errorCodeMapper) {
+        this(errorCodeMapper, new ExceptionConverterProperties.Stackless());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param errorCodeMapper provides mapping of HTTP statuses to error codes, and error codes to exception classes
+     * @param stackless       tells which target exceptions to create without stack traces
+     * @throws IllegalStateException an exception class has no accessible constructor accepting {@link Throwable}
+     */
+    @SuppressWarnings("unchecked")
+    protected HttpStatusExceptionConverter(ErrorCodeMapper<?> errorCodeMapper,
+            ExceptionConverterProperties.Stackless stackless) {
+        checkNotNull(errorCodeMapper, "errorCodeMapper");
+        checkNotNull(stackless, "stackless");
+        fallbackFactory = createFactory(getDefaultExceptionClass(errorCodeMapper), stackless);
+
+        factories = new Function[MAX_STATUS_CODE];
+        Arrays.fill(factories, fallbackFactory);
+        fillFactories(errorCodeMapper.getErrorCodeRegistry(), stackless, factories);
+    }
+
+    /**
+     * Retrieves HTTP status code out of the exception without touching the response body.
+     *
+     * @param cause exception to convert
+     * @return status code (negative if there's none)
+     */
+    protected abstract int getStatusCode(S cause);
+
+    /**
+     * Creates target exception picked by the HTTP status of the argument.
+     *
+     * @param cause exception to convert
+     * @return target exception
+     * @throws IllegalStateException failed to create target exception
+     */
+    @Override
+    public BusinessException convert(S cause) {
+        int statusCode = getStatusCode(cause);
+
+        Function<Throwable, ? extends BusinessException> factory =
+                ((statusCode >= 0) && (statusCode < MAX_STATUS_CODE))
+                        ? factories[statusCode]
+                        : fallbackFactory;
+        return factory.apply(cause);
+    }
+
+    private static <T extends Enum<T>> Class<? extends BusinessException> getDefaultExceptionClass(
+            ErrorCodeMapper<T> errorCodeMapper) {
+        T defaultErrorCode = checkNotNull(errorCodeMapper.getDefaultErrorCode(), "default error code");
+        return errorCodeMapper.getErrorCodeRegistry().getExceptionClass(defaultErrorCode);
+    }
+
+    private static <T extends Enum<T>> void fillFactories(ErrorCodeRegistry<T> errorCodeRegistry,
+            ExceptionConverterProperties.Stackless stackless,
+            Function<Throwable, ? extends BusinessException>[] factories) {
+        errorCodeRegistry.getHttpStatusToErrorCode().forEach((httpStatus, errorCode) ->
+                factories[httpStatus.value()] = createFactory(errorCodeRegistry.getExceptionClass(errorCode),
+                        stackless));
+    }
+
+    /**
+     * Resolves target exception factory once, so conversion doesn't involve reflection, and makes it report failures
+     * the same way {@link ExceptionConverter#convert(Throwable)} does.
+     *
+     * @param targetClass target exception class
+     * @param stackless   tells whether to create target exceptions without stack traces
+     * @return factory
+     * @throws IllegalStateException target exception class has no accessible constructor accepting {@link Throwable}
+     */
+    private static Function<Throwable, BusinessException> createFactory(
+            Class<? extends BusinessException> targetClass, ExceptionConverterProperties.Stackless stackless) {
+        Function<Throwable, ? extends BusinessException> factory =
+                ExceptionConverterDescriptor.getFactory(targetClass, stackless.isStackless(targetClass));
+
+        return cause -> {
+            try {
+                return factory.apply(cause);
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to instantiate " + targetClass.getName(), e);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,29 @@
+package guru.nicks.commons.exception.converter;
+
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * {@link RestClientResponseException} (and its subclasses, such as
+ * {@link org.springframework.web.client.HttpClientErrorException}) is thrown by {@code RestClient} and
+ * {@code RestTemplate} if the downstream service responds with an error status.
+ */
+public class RestClientResponseExceptionConverter extends HttpStatusExceptionConverter<RestClientResponseException> {
+
+    public RestClientResponseExceptionConverter(ErrorCodeMapper<?> errorCodeMapper) {
+        super(errorCodeMapper);
+    }
+
+    public RestClientResponseExceptionConverter(ErrorCodeMapper<?> errorCodeMapper,
+            ExceptionConverterProperties.Stackless stackless) {
+        super(errorCodeMapper, stackless);
+    }
+
+    @Override
+    protected int getStatusCode(RestClientResponseException cause) {
+        return cause.getStatusCode().value();
+    }
+
+}
@@ -0,0 +1,31 @@
+package guru.nicks.commons.exception.converter;
+
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+/**
+ * {@link WebClientResponseException} is thrown by {@code WebClient} if the downstream service responds with an error
+ * status.
+ * <p>
+ * Not declared in {@link BuiltInExceptionConverters}: Spring WebFlux is an optional dependency, and that table must be
+ * loadable without it.
+ */
+public class WebClientResponseExceptionConverter extends HttpStatusExceptionConverter<WebClientResponseException> {
+
+    public WebClientResponseExceptionConverter(ErrorCodeMapper<?> errorCodeMapper) {
+        super(errorCodeMapper);
+    }
+
+    public WebClientResponseExceptionConverter(ErrorCodeMapper<?> errorCodeMapper,
+            ExceptionConverterProperties.Stackless stackless) {
+        super(errorCodeMapper, stackless);
+    }
+
+    @Override
+    protected int getStatusCode(WebClientResponseException cause) {
+        return cause.getStatusCode().value();
+    }
+
+}
@@ -0,0 +1,199 @@
+package guru.nicks.commons.exception.impl;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.SubclassBeforeSuperclassExceptionIterator;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ExceptionConverterObserver;
+import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes {@link ExceptionConverterRegistry} meters. All tags have low cardinality: they come from classes and not
+ * from exceptions being converted. Meters are registered in advance (or, for conversion results whose class isn't
+ * known in advance, once per class), so recording them allocates nothing.
+ * <ul>
+ *     <li>{@value #LOOKUPS} - timer of {@link ExceptionConverterRegistry#findConverter(Throwable)}, tagged with
+ *         {@code result} ({@code found} / {@code not_found}); also covers lookups made by
+ *         {@link ExceptionConverterRegistry#convertAll(java.util.List)}, which looks up converters once per distinct
+ *         exception chain (by classes) in each call</li>
+ *     <li>{@value #CACHE_GETS} - count of the same lookups, tagged with {@code result} ({@code hit} / {@code miss});
+ *         in {@code DISPATCHER} lookup mode, which has no cache, all lookups are hits; lookups made in advance (see
+ *         {@link guru.nicks.commons.exception.config.ExceptionConverterProperties.Prepopulation}) are not counted</li>
+ *     <li>{@value #CACHE_SIZE} - estimated number of cached lookup results</li>
+ *     <li>{@value #CHAIN_ORDER_CACHE_GETS} - count of short exception chains ordered by
+ *         {@link SubclassBeforeSuperclassExceptionIterator}, tagged with {@code result} ({@code hit} / {@code miss});
+ *         process-wide, like the cache itself</li>
+ *     <li>{@value #CONVERSIONS} - conversion count, tagged with {@code target} (simple name of the class of exception
+ *         created; for converters relying on default conversion, that's the target class they declare) and
+ *         {@code error.code} (error code of that class, or {@code none} if there's no {@link ErrorCodeMapper})</li>
+ * </ul>
+ */
+public class MicrometerExceptionConverterObserver implements ExceptionConverterObserver {
+
+    public static final String LOOKUPS = "exception.converter.lookups";
+    public static final String CACHE_GETS = "exception.converter.cache.gets";
+    public static final String CACHE_SIZE = "exception.converter.cache.size";
+    public static final String CHAIN_ORDER_CACHE_GETS = "exception.converter.chain.order.cache.gets";
+    public static final String CONVERSIONS = "exception.converter.conversions";
+
+    private static final String NO_ERROR_CODE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Nullable
+    private final ErrorCodeMapper<?> errorCodeMapper;
+
+    private final Timer foundLookups;
+    private final Timer notFoundLookups;
+
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder cacheMissCount = new LongAdder();
+
+    /**
+     * Conversion counters of converters which override {@link ExceptionConverter#convert(Throwable)}: they may create
+     * a different exception for each input (for example, depending on HTTP status), so their results are counted by
+     * class. Generated classes (see {@link ExceptionConverterDescriptor#isStackless()})
+     * are counted as their superclasses.
+     */
+    private final ClassValue<Counter> conversionCounters = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Counter computeValue(Class<?> resultClass) {
+            Class<?> clazz = resultClass;
+
+            while (clazz.isSynthetic()) {
+                clazz = clazz.getSuperclass();
+            }
+
+            return registerConversionCounter((Class<? extends BusinessException>) clazz);
+        }
+    };
+
+    /**
+     * Constructor.
+     *
+     * @param meterRegistry   meter registry
+     * @param errorCodeMapper error code mapper to tag conversions with error codes, optional
+     */
+    public MicrometerExceptionConverterObserver(MeterRegistry meterRegistry,
+            @Nullable ErrorCodeMapper<?> errorCodeMapper) {
+        this.meterRegistry = meterRegistry;
+        this.errorCodeMapper = errorCodeMapper;
+
+        foundLookups = Timer.builder(LOOKUPS)
+                .description("Exception converter lookups")
+                .tag("result", "found")
+                .register(meterRegistry);
+        notFoundLookups = Timer.builder(LOOKUPS)
+                .description("Exception converter lookups")
+                .tag("result", "not_found")
+                .register(meterRegistry);
+
+        FunctionCounter.builder(CACHE_GETS, cacheHitCount, LongAdder::sum)
+                .description("Exception converter lookups served without walking exception class hierarchy")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(CACHE_GETS, cacheMissCount, LongAdder::sum)
+                .description("Exception converter lookups which walked exception class hierarchy")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        FunctionCounter.builder(CHAIN_ORDER_CACHE_GETS, SubclassBeforeSuperclassExceptionIterator.class,
+                        ignored -> SubclassBeforeSuperclassExceptionIterator.getOrderCacheHitCount())
+                .description("Exception chains ordered without sorting")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(CHAIN_ORDER_CACHE_GETS, SubclassBeforeSuperclassExceptionIterator.class,
+                        ignored -> SubclassBeforeSuperclassExceptionIterator.getOrderCacheMissCount())
+                .description("Exception chains which had to be sorted")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onInitialized(ExceptionConverterRegistry registry) {
+        Gauge.builder(CACHE_SIZE, registry, ExceptionConverterRegistry::estimateCacheSize)
+                .description("Estimated number of cached exception converter lookups")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ExceptionConverter<Throwable, ? extends BusinessException> observe(
+            ExceptionConverterDescriptor<?, ?> descriptor,
+            ExceptionConverter<Throwable, ? extends BusinessException> converter) {
+        return descriptor.isDefaultConversion()
+                ? countConversions(converter, registerConversionCounter(descriptor.getTargetClass()))
+                : countConversionsByClass(converter);
+    }
+
+    @Override
+    public void onLookup(long durationNanos, boolean found, boolean cacheHit) {
+        (cacheHit ? cacheHitCount : cacheMissCount).increment();
+        (found ? foundLookups : notFoundLookups).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter registerConversionCounter(Class<? extends BusinessException> targetClass) {
+        return Counter.builder(CONVERSIONS)
+                .description("Exceptions converted")
+                .tag("target", targetClass.getSimpleName())
+                .tag("error.code", resolveErrorCode(targetClass))
+                .register(meterRegistry);
+    }
+
+    private String resolveErrorCode(Class<? extends BusinessException> targetClass) {
+        return (errorCodeMapper == null)
+                ? NO_ERROR_CODE
+                : resolveErrorCode(errorCodeMapper, targetClass);
+    }
+
+    /**
+     * Does the same as {@link ErrorCodeMapper#toErrorCode(BusinessException)}, but without exception instance.
+     */
+    private static <T extends Enum<T>> String resolveErrorCode(ErrorCodeMapper<T> errorCodeMapper,
+            Class<? extends BusinessException> targetClass) {
+        T errorCode = errorCodeMapper.getErrorCodeRegistry().getErrorCode(targetClass);
+        return (errorCode == null)
+                ? errorCodeMapper.getDefaultErrorCode().name()
+                : errorCode.name();
+    }
+
+    private static <T extends BusinessException> ExceptionConverter<Throwable, T> countConversions(
+            ExceptionConverter<Throwable, T> converter, Counter counter) {
+        return new ExceptionConverter<>() {
+            @Override
+            public T convert(Throwable cause) {
+                T result = converter.convert(cause);
+                counter.increment();
+                return result;
+            }
+        };
+    }
+
+    private <T extends BusinessException> ExceptionConverter<Throwable, T> countConversionsByClass(
+            ExceptionConverter<Throwable, T> converter) {
+        return new ExceptionConverter<>() {
+            @Override
+            public T convert(Throwable cause) {
+                T result = converter.convert(cause);
+
+                if (result != null) {
+                    conversionCounters.get(result.getClass()).increment();
+                }
+
+                return result;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,31 @@
+package guru.nicks.commons.exception.mapper;
+
+import guru.nicks.commons.exception.BusinessException;
+
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Converted exception paired with its error code and HTTP status.
+ *
+ * @param <T> error code type
+ * @see ErrorCodeMapper#toConvertedExceptions(java.util.List)
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ConvertedException<T extends Enum<T>> {
+
+    /**
+     * {@code null} if no converter was found.
+     */
+    @Nullable
+    private final BusinessException exception;
+
+    private final T errorCode;
+    private final HttpStatus httpStatus;
+
+}
@@ -0,0 +1,37 @@
+package guru.nicks.commons.exception.mapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted by {@link ExceptionConverterRegistry#findConverter(Throwable)} on cache miss, i.e. when exception
+ * class hierarchy is walked to find the converter. Disabled by default, see {@link ExceptionConversionEvent}.
+ */
+@Name(ConverterLookupMissEvent.NAME)
+@Label("Converter Lookup Miss")
+@Category({"Commons", "Exception Converter"})
+@Description("Exception converter looked up by walking exception class hierarchy")
+@Enabled(false)
+@StackTrace(false)
+final class ConverterLookupMissEvent extends Event {
+
+    public static final String NAME = "guru.nicks.commons.exception.ConverterLookupMiss";
+
+    @Label("Exception Class")
+    @Description("Class of exception to find converter for")
+    Class<?> exceptionClass;
+
+    @Label("Source Class")
+    @Description("Source class of converter found, null if none was found")
+    Class<?> sourceClass;
+
+    @Label("Hierarchy Depth")
+    @Description("Number of classes checked while walking up exception class hierarchy")
+    int hierarchyDepth;
+
+}
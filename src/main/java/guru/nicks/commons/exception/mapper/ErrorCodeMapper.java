@@ -7,7 +7,8 @@ import guru.nicks.commons.utils.HttpRequestUtils;
 import jakarta.annotation.Nullable;
 import org.springframework.http.HttpStatus;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
@@ -29,12 +30,14 @@ public interface ErrorCodeMapper<T extends Enum<T>> {
      * @return error code with fallback to {@link #getDefaultErrorCode()}
      */
     default T toErrorCode(@Nullable BusinessException e) {
-        // WARNING: don't call getOrDefault() - specific Map implementation may throw exceptions on null keys
-        T errorCode = Optional.ofNullable(e)
-                .map(BusinessException::getClass)
-                .flatMap(getErrorCodeRegistry().getExceptionClassToErrorCode()::findEntryForClosestSuperclass)
-                .map(Map.Entry::getValue)
-                .orElseGet(this::getDefaultErrorCode);
+        // cached per exception class by registry
+        T errorCode = (e == null)
+                ? null
+                : getErrorCodeRegistry().getErrorCode(e.getClass());
+
+        if (errorCode == null) {
+            errorCode = getDefaultErrorCode();
+        }
 
         //  WARNING: don't store default error code in a static variable - it'll be null because this class is part of
         //  each enum member's initialization, so it's impossible to refer to enum members on the class level
@@ -77,14 +80,13 @@ public interface ErrorCodeMapper<T extends Enum<T>> {
      * @return HTTP status code with fallback to {@link #getDefaultHttpStatus()}
      */
     default HttpStatus toHttpStatus(@Nullable BusinessException e) {
-        // WARNING: don't call getOrDefault() - specific Map implementation may throw exceptions on null keys
-        HttpStatus httpStatus = Optional.ofNullable(e)
-                .map(BusinessException::getClass)
-                .flatMap(getErrorCodeRegistry().getExceptionClassToHttpStatus()::findEntryForClosestSuperclass)
-                .map(Map.Entry::getValue)
-                .orElseGet(this::getDefaultHttpStatus);
+        // cached per exception class by registry
+        HttpStatus httpStatus = (e == null)
+                ? null
+                : getErrorCodeRegistry().getHttpStatus(e.getClass());
 
-        return checkNotNull(httpStatus, "missing default HTTP status");
+        return checkNotNull((httpStatus == null) ? getDefaultHttpStatus() : httpStatus,
+                "missing default HTTP status");
     }
 
     /**
@@ -93,16 +95,39 @@ public interface ErrorCodeMapper<T extends Enum<T>> {
      *
      * @param errorCode error code, can be {@code null}
      * @return HTTP status code with fallback to {@link #getDefaultHttpStatus()}
+     * @see ErrorCodeRegistry#getHttpStatus(Enum)
      */
     default HttpStatus toHttpStatus(@Nullable T errorCode) {
-        // WARNING: don't call getOrDefault() - specific Map implementation may throw exceptions on null keys
-        HttpStatus httpStatus = Optional.ofNullable(errorCode)
-                .map(getErrorCodeRegistry().getErrorCodeToExceptionClass())
-                .flatMap(getErrorCodeRegistry().getExceptionClassToHttpStatus()::findEntryForClosestSuperclass)
-                .map(Map.Entry::getValue)
-                .orElseGet(this::getDefaultHttpStatus);
+        // precomputed by registry, so no Optional chain here: this is an array read
+        HttpStatus httpStatus = (errorCode == null)
+                ? null
+                : getErrorCodeRegistry().getHttpStatus(errorCode);
+
+        return checkNotNull((httpStatus == null) ? getDefaultHttpStatus() : httpStatus,
+                "missing default HTTP status");
+    }
+
+    /**
+     * Pairs each conversion result with its error code and HTTP status, as returned by
+     * {@link #toErrorCode(BusinessException)} and {@link #toHttpStatus(BusinessException)} for each exception.
+     *
+     * @param convertedExceptions conversion results, such as those returned by
+     *                            {@link ExceptionConverterRegistry#convertAll(List)}
+     * @return converted exceptions, in the same order as the argument (empty results yield {@code null} exceptions
+     *         with {@link #getDefaultErrorCode()} and {@link #getDefaultHttpStatus()})
+     */
+    default List<ConvertedException<T>> toConvertedExceptions(List<Optional<BusinessException>> convertedExceptions) {
+        checkNotNull(convertedExceptions, "convertedExceptions");
+
+        var result = new ArrayList<ConvertedException<T>>(convertedExceptions.size());
+
+        // no per-call caching: the registry caches per exception class, and overrides may depend on exception instances
+        for (Optional<BusinessException> convertedException : convertedExceptions) {
+            BusinessException e = convertedException.orElse(null);
+            result.add(new ConvertedException<>(e, toErrorCode(e), toHttpStatus(e)));
+        }
 
-        return checkNotNull(httpStatus, "missing default HTTP status");
+        return result;
     }
 
     /**
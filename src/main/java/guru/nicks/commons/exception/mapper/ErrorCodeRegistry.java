@@ -4,12 +4,15 @@ import guru.nicks.commons.designpattern.SubclassBeforeSuperclassMap;
 import guru.nicks.commons.exception.BusinessException;
 import guru.nicks.commons.exception.RootHttpStatus;
 
+import jakarta.annotation.Nullable;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanInstantiationException;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.http.HttpStatus;
 
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Locale;
 import java.util.Map;
@@ -27,7 +30,6 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
     /**
      * Mapping of exception classes to error codes. Needed to map their subclasses to the same error code.
      */
-    @Getter
     private final SubclassBeforeSuperclassMap<BusinessException, T> exceptionClassToErrorCode =
             new SubclassBeforeSuperclassMap<>();
 
@@ -35,7 +37,6 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
      * Mapping of exception classes annotated with {@link RootHttpStatus @RootHttpStatus} to HTTP status codes. Needed
      * to map their subclasses to the same HTTP status.
      */
-    @Getter
     private final SubclassBeforeSuperclassMap<BusinessException, HttpStatus> exceptionClassToHttpStatus =
             new SubclassBeforeSuperclassMap<>();
 
@@ -43,18 +44,162 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
      * Reverse mapping of HTTP statuses to error codes retrieved from exception classes annotated with
      * {@link RootHttpStatus @RootHttpStatus}. Needed to map HTTP statuses to error codes.
      */
-    @Getter
     private final Map<HttpStatus, T> httpStatusToErrorCode = new EnumMap<>(HttpStatus.class);
 
+    /**
+     * Read-only views of the above maps, created once because some of them are read on each mapping.
+     */
+    private final Map<Class<? extends BusinessException>, T> exceptionClassToErrorCodeView =
+            Collections.unmodifiableMap(exceptionClassToErrorCode);
+    private final Map<Class<? extends BusinessException>, HttpStatus> exceptionClassToHttpStatusView =
+            Collections.unmodifiableMap(exceptionClassToHttpStatus);
+    private final Map<HttpStatus, T> httpStatusToErrorCodeView = Collections.unmodifiableMap(httpStatusToErrorCode);
+
     @Getter
     private final Function<T, Class<? extends BusinessException>> errorCodeToExceptionClass;
 
+    /**
+     * Exception classes of error codes, indexed by {@link Enum#ordinal()}. Same as
+     * {@link #getErrorCodeToExceptionClass()}, but doesn't call that function each time.
+     */
+    private final Class<? extends BusinessException>[] exceptionClasses;
+
+    /**
+     * HTTP statuses of error codes, indexed by {@link Enum#ordinal()}. Each one is declared in the error code's
+     * exception class or its closest superclass annotated with {@link RootHttpStatus @RootHttpStatus} ({@code null} if
+     * there's no such class). Computed once because the answer is fixed for each error code.
+     */
+    private final HttpStatus[] httpStatuses;
+
+    /**
+     * Error code and HTTP status of each exception class, resolved via {@link #exceptionClassToErrorCode} and
+     * {@link #exceptionClassToHttpStatus} once per class. Needed for unregistered subclasses, for which each lookup
+     * would otherwise scan the whole map. Values of a discarded registry go away together with it.
+     * <p>
+     * WARNING: this relies on the registry being immutable after construction. Maps returned by deprecated
+     * {@link #getExceptionClassToErrorCode()} and {@link #getExceptionClassToHttpStatus()} must not be modified.
+     */
+    private final ClassValue<ExceptionClassMapping<T>> exceptionClassMappings = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ExceptionClassMapping<T> computeValue(Class<?> exceptionClass) {
+            return mapExceptionClass((Class<? extends BusinessException>) exceptionClass);
+        }
+    };
+
     /**
      * Registers all {@code T} enum values in auxiliary data structures.
      */
+    @SuppressWarnings("unchecked")
     protected ErrorCodeRegistry(Function<T, Class<? extends BusinessException>> errorCodeToExceptionClass) {
         this.errorCodeToExceptionClass = errorCodeToExceptionClass;
-        registerAllErrorCodes();
+        T[] errorCodes = getErrorCodeClass().getEnumConstants();
+        exceptionClasses = new Class[errorCodes.length];
+        httpStatuses = new HttpStatus[errorCodes.length];
+        registerAllErrorCodes(errorCodes);
+    }
+
+    /**
+     * Returns mapping of exception classes to error codes.
+     *
+     * @return map, not to be modified
+     * @deprecated modifying the map makes {@link #getErrorCode(Class)} return stale values; use
+     *             {@link #getExceptionClassToErrorCodeView()} or {@link #getErrorCode(Class)} instead
+     */
+    @Deprecated
+    public SubclassBeforeSuperclassMap<BusinessException, T> getExceptionClassToErrorCode() {
+        return exceptionClassToErrorCode;
+    }
+
+    /**
+     * Returns mapping of exception classes annotated with {@link RootHttpStatus @RootHttpStatus} to HTTP statuses.
+     *
+     * @return map, not to be modified
+     * @deprecated modifying the map makes {@link #getHttpStatus(Class)} return stale values; use
+     *             {@link #getExceptionClassToHttpStatusView()} or {@link #getHttpStatus(Class)} instead
+     */
+    @Deprecated
+    public SubclassBeforeSuperclassMap<BusinessException, HttpStatus> getExceptionClassToHttpStatus() {
+        return exceptionClassToHttpStatus;
+    }
+
+    /**
+     * Returns read-only mapping of exception classes to error codes. Iteration order is subclass before superclass, so
+     * the first key assignable from a class is its closest registered superclass; {@link #getErrorCode(Class)} does
+     * that lookup with caching.
+     *
+     * @return unmodifiable map
+     */
+    public Map<Class<? extends BusinessException>, T> getExceptionClassToErrorCodeView() {
+        return exceptionClassToErrorCodeView;
+    }
+
+    /**
+     * Returns read-only mapping of exception classes annotated with {@link RootHttpStatus @RootHttpStatus} to HTTP
+     * statuses. Iteration order is subclass before superclass, same as in {@link #getExceptionClassToErrorCodeView()};
+     * {@link #getHttpStatus(Class)} does the closest superclass lookup with caching.
+     *
+     * @return unmodifiable map
+     */
+    public Map<Class<? extends BusinessException>, HttpStatus> getExceptionClassToHttpStatusView() {
+        return exceptionClassToHttpStatusView;
+    }
+
+    /**
+     * Returns read-only reverse mapping of HTTP statuses to error codes retrieved from exception classes annotated with
+     * {@link RootHttpStatus @RootHttpStatus}.
+     *
+     * @return unmodifiable map
+     */
+    public Map<HttpStatus, T> getHttpStatusToErrorCode() {
+        return httpStatusToErrorCodeView;
+    }
+
+    /**
+     * Returns exception class of the given error code.
+     *
+     * @param errorCode error code
+     * @return exception class
+     */
+    public Class<? extends BusinessException> getExceptionClass(T errorCode) {
+        return exceptionClasses[errorCode.ordinal()];
+    }
+
+    /**
+     * Returns HTTP status declared in exception class of the given error code or in its closest superclass annotated
+     * with {@link RootHttpStatus @RootHttpStatus}.
+     *
+     * @param errorCode error code
+     * @return HTTP status, {@code null} if there's no such annotated class
+     */
+    @Nullable
+    public HttpStatus getHttpStatus(T errorCode) {
+        return httpStatuses[errorCode.ordinal()];
+    }
+
+    /**
+     * Returns error code whose exception class is the same as (or the closest parent of) the argument. Same as looking
+     * it up in {@link #getExceptionClassToErrorCodeView()} in iteration order, but cached per class.
+     *
+     * @param exceptionClass exception class
+     * @return error code, {@code null} if there's no such class
+     */
+    @Nullable
+    public T getErrorCode(Class<? extends BusinessException> exceptionClass) {
+        return exceptionClassMappings.get(exceptionClass).errorCode;
+    }
+
+    /**
+     * Returns HTTP status declared in the argument or in its closest parent annotated with
+     * {@link RootHttpStatus @RootHttpStatus}. Same as looking it up in {@link #getExceptionClassToHttpStatusView()} in
+     * iteration order, but cached per class.
+     *
+     * @param exceptionClass exception class
+     * @return HTTP status, {@code null} if there's no such annotated class
+     */
+    @Nullable
+    public HttpStatus getHttpStatus(Class<? extends BusinessException> exceptionClass) {
+        return exceptionClassMappings.get(exceptionClass).httpStatus;
     }
 
     /**
@@ -62,20 +207,38 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
      */
     protected abstract Class<T> getErrorCodeClass();
 
+    private ExceptionClassMapping<T> mapExceptionClass(Class<? extends BusinessException> exceptionClass) {
+        return new ExceptionClassMapping<>(
+                exceptionClassToErrorCode.findEntryForClosestSuperclass(exceptionClass)
+                        .map(Map.Entry::getValue)
+                        .orElse(null),
+                exceptionClassToHttpStatus.findEntryForClosestSuperclass(exceptionClass)
+                        .map(Map.Entry::getValue)
+                        .orElse(null));
+    }
+
     private void registerErrorCode(T errorCode) {
         checkNotNull(errorCode, "errorCode");
         registerExceptionClass(errorCode);
         possiblyRegisterRootHttpStatus(errorCode);
     }
 
-    private void registerAllErrorCodes() {
-        for (var errorCode : getErrorCodeClass().getEnumConstants()) {
+    private void registerAllErrorCodes(T[] errorCodes) {
+        for (var errorCode : errorCodes) {
             registerErrorCode(errorCode);
         }
 
         if (exceptionClassToErrorCode.isEmpty()) {
             log.warn("No error codes registered: [{}] enum is empty", getErrorCodeClass().getName());
         }
+
+        // all roots must be registered first: some of them may be subclasses of other error codes' exception classes
+        for (var errorCode : errorCodes) {
+            httpStatuses[errorCode.ordinal()] = exceptionClassToHttpStatus
+                    .findEntryForClosestSuperclass(exceptionClasses[errorCode.ordinal()])
+                    .map(Map.Entry::getValue)
+                    .orElse(null);
+        }
     }
 
     /**
@@ -88,6 +251,7 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
     private void registerExceptionClass(T errorCode) {
         Class<? extends BusinessException> exceptionClass = errorCodeToExceptionClass.apply(errorCode);
         checkNotNull(exceptionClass, errorCode + ".exceptionClass");
+        exceptionClasses[errorCode.ordinal()] = exceptionClass;
         T conflictingErrorCode = exceptionClassToErrorCode.get(exceptionClass);
 
         // throw exception on collision
@@ -109,7 +273,7 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
      * @throws IllegalStateException if the HTTP status is already mapped to some error code
      */
     private void possiblyRegisterRootHttpStatus(T errorCode) {
-        Class<? extends BusinessException> exceptionClass = errorCodeToExceptionClass.apply(errorCode);
+        Class<? extends BusinessException> exceptionClass = exceptionClasses[errorCode.ordinal()];
 
         // WARNING: no annotation merging here
         RootHttpStatus rootHttpStatus = AnnotationUtils.getAnnotation(exceptionClass, RootHttpStatus.class);
@@ -138,4 +302,18 @@ public abstract class ErrorCodeRegistry<T extends Enum<T>> {
                         });
     }
 
+    /**
+     * Error code and HTTP status of an exception class, both nullable.
+     */
+    @RequiredArgsConstructor
+    private static final class ExceptionClassMapping<T extends Enum<T>> {
+
+        @Nullable
+        private final T errorCode;
+
+        @Nullable
+        private final HttpStatus httpStatus;
+
+    }
+
 }
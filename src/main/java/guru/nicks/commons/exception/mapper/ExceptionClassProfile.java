@@ -0,0 +1,86 @@
+package guru.nicks.commons.exception.mapper;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Names of exception classes {@link ExceptionConverterRegistry} has looked up converters for, persisted in a local file
+ * (one class name per line) so that the next application run can look them up in advance - like a training run for
+ * class data sharing.
+ */
+@RequiredArgsConstructor
+@Slf4j
+class ExceptionClassProfile {
+
+    @Getter
+    private final Path file;
+
+    private final Set<String> classNames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Remembers exception class.
+     *
+     * @param exceptionClass exception class
+     */
+    public void add(Class<?> exceptionClass) {
+        classNames.add(exceptionClass.getName());
+    }
+
+    /**
+     * Reads class names saved previously.
+     *
+     * @return class names (empty if the file doesn't exist or can't be read)
+     */
+    public List<String> load() {
+        if (!Files.isRegularFile(file)) {
+            log.info("Exception class profile [{}] doesn't exist yet", file);
+            return Collections.emptyList();
+        }
+
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8)
+                    .stream()
+                    .map(String::strip)
+                    .filter(line -> !line.isEmpty())
+                    .toList();
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to read exception class profile [{}]: {}", file, e.toString());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Writes remembered class names (sorted, for readability) to a temporary file and then replaces the profile file
+     * with it, so readers never see a partially written profile. Never throws exceptions, only logs them.
+     */
+    public void save() {
+        List<String> sortedClassNames = classNames.stream()
+                .sorted()
+                .toList();
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+
+            Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(tempFile, sortedClassNames, StandardCharsets.UTF_8);
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} exception class names to profile [{}]", sortedClassNames.size(), file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to save exception class profile [{}]: {}", file, e.toString());
+        }
+    }
+
+}
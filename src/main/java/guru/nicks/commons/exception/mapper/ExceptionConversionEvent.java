@@ -0,0 +1,46 @@
+package guru.nicks.commons.exception.mapper;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted by {@link ExceptionConverterRegistry#convert(Throwable)} and
+ * {@link ExceptionConverterRegistry#convertAll(java.util.List)} for each exception converted (or attempted to be
+ * converted). Its duration covers both converter lookup and conversion.
+ * <p>
+ * Disabled by default; enable it by {@link #NAME} in a custom JFR settings file or with
+ * {@link jdk.jfr.Recording#enable(String)}. When disabled, JIT eliminates the event object altogether, so the only cost
+ * is the enablement check.
+ */
+@Name(ExceptionConversionEvent.NAME)
+@Label("Exception Conversion")
+@Category({"Commons", "Exception Converter"})
+@Description("Conversion of exception to business exception")
+@Enabled(false)
+@StackTrace(false)
+final class ExceptionConversionEvent extends Event {
+
+    public static final String NAME = "guru.nicks.commons.exception.ExceptionConversion";
+
+    @Label("Source Class")
+    @Description("Class of exception converted")
+    Class<?> sourceClass;
+
+    @Label("Target Class")
+    @Description("Class of business exception created, null if no converter was found")
+    Class<?> targetClass;
+
+    @Label("Chain Depth")
+    @Description("Number of exceptions in cause chain")
+    int chainDepth;
+
+    @Label("Cache Hit")
+    @Description("Whether converter lookup was served without walking exception class hierarchy")
+    boolean cacheHit;
+
+}
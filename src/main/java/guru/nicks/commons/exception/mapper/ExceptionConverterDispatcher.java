@@ -0,0 +1,22 @@
+package guru.nicks.commons.exception.mapper;
+
+/**
+ * Classifies exceptions by source classes of {@link ExceptionConverterMap}, in the same order. Implementations are
+ * generated by {@link ExceptionConverterDispatcherGenerator}.
+ */
+interface ExceptionConverterDispatcher {
+
+    /**
+     * Returned by {@link #classify(Throwable)} if no source class matches.
+     */
+    int NOT_FOUND = -1;
+
+    /**
+     * Finds the first source class the given exception is an instance of.
+     *
+     * @param t exception
+     * @return source class index or {@link #NOT_FOUND}
+     */
+    int classify(Throwable t);
+
+}
@@ -0,0 +1,135 @@
+package guru.nicks.commons.exception.mapper;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compiles source classes of {@link ExceptionConverterMap} into a hidden class implementing
+ * {@link ExceptionConverterDispatcher} as a chain of {@code instanceof} checks:
+ * <pre>
+ *  if (t instanceof ArrayIndexOutOfBoundsException) return 0;
+ *  if (t instanceof IllegalArgumentException) return 1;
+ *  ...
+ *  return -1;
+ * </pre>
+ * Since subclasses go before their superclasses, the first match is the most specific converter - the same one
+ * {@link ExceptionConverterRegistry} finds with map lookup. JIT compiles each check into a couple of machine
+ * instructions (class hierarchy check), with no hashing, no map access, and no cache.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+final class ExceptionConverterDispatcherGenerator {
+
+    /**
+     * HotSpot doesn't JIT-compile methods longer than 8000 bytes of bytecode, and each check takes up to 12 bytes.
+     */
+    public static final int MAX_SOURCE_CLASSES = 600;
+
+    private static final String CLASS_NAME = Type.getInternalName(ExceptionConverterDispatcher.class) + "$$Generated";
+
+    private static final String CLASSIFY_DESCRIPTOR = Type.getMethodDescriptor(Type.INT_TYPE,
+            Type.getType(Throwable.class));
+
+    private static final String CONSTRUCTOR_DESCRIPTOR = Type.getMethodDescriptor(Type.VOID_TYPE);
+
+    /**
+     * Generates dispatcher for the given source classes.
+     *
+     * @param sourceClasses source classes in {@link ExceptionConverterMap} order
+     * @return optional dispatcher (empty if there are too many source classes or some of them are not accessible from
+     *         this package, for example private nested classes or classes from child class loaders)
+     */
+    public static Optional<ExceptionConverterDispatcher> generate(List<Class<? extends Throwable>> sourceClasses) {
+        if (sourceClasses.size() > MAX_SOURCE_CLASSES) {
+            log.warn("Not generating exception converter dispatcher: {} source classes exceed the limit of {}",
+                    sourceClasses.size(), MAX_SOURCE_CLASSES);
+            return Optional.empty();
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        for (Class<? extends Throwable> sourceClass : sourceClasses) {
+            if (!isAccessible(lookup, sourceClass)) {
+                log.warn("Not generating exception converter dispatcher: [{}] is not accessible from [{}]",
+                        sourceClass.getName(), lookup.lookupClass().getPackageName());
+                return Optional.empty();
+            }
+        }
+
+        try {
+            MethodHandles.Lookup hiddenClassLookup = lookup.defineHiddenClass(generateBytecode(sourceClasses), true);
+            var dispatcher = (ExceptionConverterDispatcher) hiddenClassLookup
+                    .findConstructor(hiddenClassLookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+            return Optional.of(dispatcher);
+        } catch (Throwable e) {
+            log.warn("Failed to generate exception converter dispatcher: {}", e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks if the generated class will be able to resolve the given one: it must be accessible and visible to the
+     * class loader the generated class is defined by.
+     */
+    private static boolean isAccessible(MethodHandles.Lookup lookup, Class<?> sourceClass) {
+        try {
+            lookup.accessClass(sourceClass);
+            return Class.forName(sourceClass.getName(), false, lookup.lookupClass().getClassLoader()) == sourceClass;
+        } catch (IllegalAccessException | ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static byte[] generateBytecode(List<Class<? extends Throwable>> sourceClasses) {
+        var classWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                CLASS_NAME, null, Type.getInternalName(Object.class),
+                new String[]{Type.getInternalName(ExceptionConverterDispatcher.class)});
+
+        // no-arg constructor
+        MethodVisitor method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR,
+                null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(Object.class), "<init>",
+                CONSTRUCTOR_DESCRIPTOR, false);
+        method.visitInsn(Opcodes.RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        // 'if (t instanceof X) return index;' for each source class
+        method = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "classify", CLASSIFY_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        for (int i = 0; i < sourceClasses.size(); i++) {
+            var next = new Label();
+            method.visitVarInsn(Opcodes.ALOAD, 1);
+            method.visitTypeInsn(Opcodes.INSTANCEOF, Type.getInternalName(sourceClasses.get(i)));
+            method.visitJumpInsn(Opcodes.IFEQ, next);
+            method.visitLdcInsn(i);
+            method.visitInsn(Opcodes.IRETURN);
+            method.visitLabel(next);
+        }
+
+        method.visitLdcInsn(ExceptionConverterDispatcher.NOT_FOUND);
+        method.visitInsn(Opcodes.IRETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+}
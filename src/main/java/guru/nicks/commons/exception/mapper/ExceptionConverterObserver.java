@@ -0,0 +1,65 @@
+package guru.nicks.commons.exception.mapper;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+
+/**
+ * Observes {@link ExceptionConverterRegistry} lookups and conversions, for example to collect metrics. Lookup
+ * callbacks are called on the hot path, so they must be cheap and should not allocate anything - per-converter state is
+ * supposed to be created in advance, in {@link #observe(ExceptionConverterDescriptor, ExceptionConverter)}. All methods
+ * do nothing by default.
+ */
+public interface ExceptionConverterObserver {
+
+    /**
+     * Observes nothing. The registry skips measuring lookup duration for this instance.
+     */
+    ExceptionConverterObserver NOOP = new ExceptionConverterObserver() {
+    };
+
+    /**
+     * Called once, when the registry is initialized.
+     *
+     * @param registry registry
+     */
+    default void onInitialized(ExceptionConverterRegistry registry) {
+    }
+
+    /**
+     * Decorates converter, for example to count its conversions. Called for each converter whenever the registry
+     * (re)builds its lookup structures: at initialization and on each converter update.
+     *
+     * @param descriptor converter descriptor
+     * @param converter  converter wrapped to accept any exception
+     * @return the same or decorated converter
+     */
+    default ExceptionConverter<Throwable, ? extends BusinessException> observe(
+            ExceptionConverterDescriptor<?, ?> descriptor,
+            ExceptionConverter<Throwable, ? extends BusinessException> converter) {
+        return converter;
+    }
+
+    /**
+     * Called after each {@link ExceptionConverterRegistry#findConverter(Throwable)}, and after each converter lookup
+     * made by {@link ExceptionConverterRegistry#convertAll(java.util.List)}.
+     *
+     * @param durationNanos lookup duration, in nanoseconds
+     * @param found         whether converter has been found
+     * @param cacheHit      whether the lookup was served without walking exception class hierarchy (always
+     *                      {@code true} in {@code DISPATCHER} lookup mode, which has no cache)
+     */
+    default void onLookup(long durationNanos, boolean found, boolean cacheHit) {
+    }
+
+    /**
+     * Called when converter is looked up without cache (i.e. on cache miss), before the result is cached. Unlike
+     * {@link #onLookup(long, boolean, boolean)}, this is also called for lookups made in advance, see
+     * {@link guru.nicks.commons.exception.config.ExceptionConverterProperties.Prepopulation}.
+     *
+     * @param exceptionClass exception class
+     */
+    default void onCacheMiss(Class<? extends Throwable> exceptionClass) {
+    }
+
+}
@@ -1,23 +1,49 @@
 package guru.nicks.commons.exception.mapper;
 
-import guru.nicks.commons.cache.domain.CacheConstants;
 import guru.nicks.commons.exception.BusinessException;
 import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.SubclassBeforeSuperclassExceptionIterator;
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.beanutils.ConstructorUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
 
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -25,65 +51,679 @@ public class ExceptionConverterRegistry {
 
     public static final int CACHE_TTL_DAYS = 14;
 
+    // DI
+    private final List<ExceptionConverter<?, ?>> exceptionConverters;
+    private final ExceptionConverterProperties properties;
+    private final ExceptionConverterObserver observer;
+
     /**
-     * Cache storing exception converters by exception class. Needed for performance, as the lookup involves iterating
-     * through converters to find the matching one.
+     * Current state: converter maps and lookup cache. Replaced as a whole by {@link #registerConverters(Collection)}
+     * and {@link #unregisterConverters(Collection)}, so the lookup path reads this reference once and takes no locks.
+     * {@code null} until the registry is initialized.
      */
-    private final Cache<Class<? extends Throwable>,
-            Optional<ExceptionConverter<Throwable, ? extends BusinessException>>> converterCache =
-            Caffeine.newBuilder()
-                    .maximumSize(CacheConstants.DEFAULT_CAFFEINE_CACHE_CAPACITY)
-                    .expireAfterAccess(Duration.ofDays(CACHE_TTL_DAYS))
-                    .build();
+    @Nullable
+    private volatile ExceptionConverterSnapshot snapshot;
 
-    // DI
-    private final List<ExceptionConverter<?, ?>> exceptionConverters;
+    /**
+     * Serializes snapshot replacements (lookups don't need it), as well as starting and stopping {@link #profileSaver}.
+     * Not {@code synchronized} because verification invokes converters, and a virtual thread blocked inside a monitor
+     * pins its carrier thread.
+     */
+    private final Lock updateLock = new ReentrantLock();
 
-    private ExceptionConverterWrapperMap exceptionConverterWrappers;
+    /**
+     * Set by {@link #destroy()} under {@link #updateLock}, so that initialization running in background after that
+     * doesn't start {@link #profileSaver}.
+     */
+    private boolean destroyed;
+
+    /**
+     * Completes with the number of exception classes whose converters have been looked up in advance, see
+     * {@link ExceptionConverterProperties.Prepopulation}. Not volatile: assigned only before {@link #snapshot} is
+     * published, and read only after it's been read.
+     */
+    private CompletableFuture<Integer> prepopulation = CompletableFuture.completedFuture(0);
+
+    /**
+     * Present if {@link ExceptionConverterProperties.Profile#getFile()} is set, and lookup results are cached.
+     * Volatile because it may be assigned in background, see {@link ExceptionConverterProperties.Initialization}.
+     */
+    @Nullable
+    private volatile ExceptionClassProfile profile;
+
+    @Nullable
+    private volatile ScheduledExecutorService profileSaver;
+
+    /**
+     * Completes when the registry is initialized, see {@link ExceptionConverterProperties.Initialization}.
+     */
+    @Getter
+    private final CompletableFuture<Void> initialization = new CompletableFuture<>();
+
+    /**
+     * Creates registry with default {@link ExceptionConverterProperties}.
+     *
+     * @param exceptionConverters exception converters
+     */
+    public ExceptionConverterRegistry(List<ExceptionConverter<?, ?>> exceptionConverters) {
+        this(exceptionConverters, new ExceptionConverterProperties());
+    }
+
+    /**
+     * Creates registry without {@link ExceptionConverterObserver}.
+     *
+     * @param exceptionConverters exception converters
+     * @param properties          registry settings
+     */
+    public ExceptionConverterRegistry(List<ExceptionConverter<?, ?>> exceptionConverters,
+            ExceptionConverterProperties properties) {
+        this(exceptionConverters, properties, ExceptionConverterObserver.NOOP);
+    }
 
     @PostConstruct
     private void init() {
-        ExceptionConverterMap converters = ExceptionConverterMap.of(exceptionConverters);
-        exceptionConverterWrappers = ExceptionConverterWrapperMap.of(converters);
-        verifyConverters(converters, exceptionConverterWrappers);
-        logConverters(converters);
+        if (properties.getInitialization() == ExceptionConverterProperties.Initialization.EAGER) {
+            initNow();
+            return;
+        }
+
+        Thread.ofVirtual().name("exception-converter-init").start(() -> {
+            try {
+                initNow();
+            } catch (RuntimeException e) {
+                log.error("Failed to initialize exception converter registry: {}", e.getMessage(), e);
+            }
+        });
     }
 
     /**
-     * Finds (and caches in memory for {@value #CACHE_TTL_DAYS} days) exception class converter.
+     * Called from {@link #init()}. Completes {@link #initialization}.
+     *
+     * @throws IllegalStateException initialization failed
+     */
+    private void initNow() {
+        Runnable prepopulationTask;
+
+        try {
+            long start = System.nanoTime();
+            ExceptionConverterSnapshot initialSnapshot = buildSnapshot(exceptionConverters, 1);
+            ExceptionConverterProperties.Profile profileProperties = properties.getProfile();
+
+            if ((profileProperties.getFile() != null)
+                    && (initialSnapshot.getLookupMode() != ExceptionConverterProperties.LookupMode.DISPATCHER)) {
+                startProfiling(profileProperties);
+            }
+
+            // before publishing the snapshot, so that whoever sees it also sees the prepopulation future
+            prepopulationTask = preparePrepopulation(initialSnapshot, properties.getPrepopulation().getPackages());
+            snapshot = initialSnapshot;
+            observer.onInitialized(this);
+            initialization.complete(null);
+
+            log.info("Initialized exception converter registry in {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            initialization.completeExceptionally(e);
+            throw e;
+        }
+
+        if (prepopulationTask != null) {
+            Thread.ofVirtual().name("exception-converter-prepopulation").start(prepopulationTask);
+        }
+    }
+
+    /**
+     * Orders, describes, and verifies converters, and builds lookup structures out of them.
+     *
+     * @param converters converters
+     * @param epoch      snapshot sequence number
+     * @return snapshot
+     * @throws IllegalStateException converters are invalid
+     */
+    private ExceptionConverterSnapshot buildSnapshot(List<ExceptionConverter<?, ?>> converters, long epoch) {
+        ExceptionConverterMap converterMap = ExceptionConverterMap.of(converters);
+        Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> descriptors =
+                describeConverters(converterMap);
+        verifyConverters(converterMap, descriptors);
+
+        ExceptionConverterWrapperMap wrappers = ExceptionConverterWrapperMap.of(converterMap, descriptors);
+        invokeConverters(wrappers);
+        logConverters(converterMap);
+
+        return new ExceptionConverterSnapshot(epoch, converters, descriptors, wrappers, properties, observer,
+                this::onCacheMiss);
+    }
+
+    /**
+     * Adds converters, for example those of a plugin loaded at runtime. A new snapshot of the registry is built and
+     * verified aside, and then replaces the current one atomically; lookups running meanwhile use the current snapshot
+     * and are never blocked. The new snapshot starts with an empty lookup cache.
+     *
+     * @param converters converters to add
+     * @throws IllegalStateException converters are invalid (for example, a source exception class already has a
+     *                               converter); the registry is left intact
+     */
+    public void registerConverters(Collection<? extends ExceptionConverter<?, ?>> converters) {
+        checkNotNull(converters, "converters");
+
+        updateConverters(current -> {
+            var updated = new ArrayList<>(current);
+            updated.addAll(converters);
+            return updated;
+        });
+    }
+
+    /**
+     * Removes converters (compared with {@link Object#equals(Object)}) in the same way
+     * {@link #registerConverters(Collection)} adds them.
+     *
+     * @param converters converters to remove
+     * @throws IllegalStateException remaining converters are invalid; the registry is left intact
+     */
+    public void unregisterConverters(Collection<? extends ExceptionConverter<?, ?>> converters) {
+        checkNotNull(converters, "converters");
+
+        updateConverters(current -> current.stream()
+                .filter(converter -> !converters.contains(converter))
+                .toList());
+    }
+
+    /**
+     * Returns sequence number of the current snapshot: 1 after initialization, incremented by each update of
+     * converters. Lookup results cached before an update are not reused after it. Waits for initialization, if
+     * needed.
+     *
+     * @return epoch
+     */
+    public long getEpoch() {
+        return currentSnapshot().getEpoch();
+    }
+
+    /**
+     * Returns the effective lookup mode: the configured one, except for
+     * {@link ExceptionConverterProperties.LookupMode#CACHE} if the dispatcher can't be generated. Waits for
+     * initialization, if needed.
+     *
+     * @return lookup mode
+     */
+    public ExceptionConverterProperties.LookupMode getLookupMode() {
+        return currentSnapshot().getLookupMode();
+    }
+
+    /**
+     * Returns descriptors of registered converters. Waits for initialization, if needed.
+     *
+     * @return descriptors (immutable), keyed by source exception class; key order is the same as in
+     *         {@link ExceptionConverterMap}
+     */
+    public Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> getConverterDescriptors() {
+        return currentSnapshot().getDescriptors();
+    }
+
+    /**
+     * Returns the future which completes with the number of exception classes whose converters have been looked up in
+     * advance, see {@link ExceptionConverterProperties.Prepopulation}. Waits for initialization, if needed.
+     *
+     * @return future
+     */
+    public CompletableFuture<Integer> getPrepopulation() {
+        currentSnapshot();
+        return prepopulation;
+    }
+
+    @PreDestroy
+    private void destroy() {
+        updateLock.lock();
+
+        try {
+            destroyed = true;
+        } finally {
+            updateLock.unlock();
+        }
+
+        // no more assignments after the flag is set
+        ScheduledExecutorService saver = profileSaver;
+        if (saver != null) {
+            saver.shutdownNow();
+        }
+
+        ExceptionClassProfile currentProfile = profile;
+        if (currentProfile != null) {
+            currentProfile.save();
+        }
+    }
+
+    /**
+     * Returns {@link #snapshot}, waiting for {@link #initialization} if it's not over yet. Package-private so that
+     * benchmarks can call {@link ExceptionConverterSnapshot#findConverterWithoutCache(Class)} to measure cache misses.
+     *
+     * @return current snapshot
+     * @throws IllegalStateException initialization failed
+     */
+    ExceptionConverterSnapshot currentSnapshot() {
+        ExceptionConverterSnapshot current = snapshot;
+        return (current != null) ? current : awaitSnapshot();
+    }
+
+    private ExceptionConverterSnapshot awaitSnapshot() {
+        try {
+            initialization.join();
+        } catch (CompletionException | CancellationException e) {
+            throw new IllegalStateException("Exception converter registry failed to initialize", e.getCause());
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Builds a new snapshot out of the current converters updated by the given function, and swaps it in.
+     *
+     * @param update converter list update
+     * @throws IllegalStateException updated converters are invalid
+     */
+    private void updateConverters(UnaryOperator<List<ExceptionConverter<?, ?>>> update) {
+        updateLock.lock();
+
+        try {
+            long start = System.nanoTime();
+            ExceptionConverterSnapshot current = currentSnapshot();
+            ExceptionConverterSnapshot updated = buildSnapshot(update.apply(current.getConverters()),
+                    current.getEpoch() + 1);
+            snapshot = updated;
+
+            log.info("Updated exception converter registry (epoch {}, {} converters) in {} ms", updated.getEpoch(),
+                    updated.getConverters().size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Finds exception class converter. Depending on {@link #getLookupMode()}, the result is cached in memory for
+     * {@value #CACHE_TTL_DAYS} days, cached for exception class lifetime, or not cached at all (no need to).
      *
      * @param t exception to find converter for
      * @return optional converter
      */
     public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverter(Throwable t) {
-        // 'get' method may return null as per Caffeine specs, but never does in this particular case
-        return converterCache.get(t.getClass(), this::findConverterWithoutCache);
+        return findConverter(t, currentSnapshot());
     }
 
     /**
-     * Called from {@link #findConverter(Throwable)} on cache miss.
+     * Looks up converter in the given snapshot and notifies {@link #observer}. Bulk conversions call this method too,
+     * so their lookups are observed as well.
      *
-     * @param exceptionClass exception class to find converter for
+     * @param t       exception to find converter for
+     * @param current snapshot to look up converter in
      * @return optional converter
      */
-    private Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverterWithoutCache(
-            Class<? extends Throwable> exceptionClass) {
-        // first try direct lookup
-        var converter = exceptionConverterWrappers.get(exceptionClass);
+    private Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverter(Throwable t,
+            ExceptionConverterSnapshot current) {
+        if (observer == ExceptionConverterObserver.NOOP) {
+            return current.findConverter(t);
+        }
+
+        // cache misses are computed in the calling thread, so an unchanged count means a cache hit
+        long cacheMisses = ExceptionConverterSnapshot.countThreadCacheMisses();
+        long start = System.nanoTime();
+        Optional<ExceptionConverter<Throwable, ? extends BusinessException>> converter = current.findConverter(t);
+        long durationNanos = System.nanoTime() - start;
+
+        observer.onLookup(durationNanos, converter.isPresent(),
+                ExceptionConverterSnapshot.countThreadCacheMisses() == cacheMisses);
+        return converter;
+    }
+
+    /**
+     * Finds converter for the given exception with {@link #findConverter(Throwable)} and applies it. Emits
+     * {@link ExceptionConversionEvent} if JFR has it enabled.
+     *
+     * @param t exception to convert
+     * @return conversion result (empty if there's no converter)
+     */
+    public Optional<BusinessException> convert(Throwable t) {
+        var event = new ExceptionConversionEvent();
+
+        if (!event.isEnabled()) {
+            return findConverter(t).map(converter -> converter.convert(t));
+        }
+
+        event.begin();
+        long cacheMisses = ExceptionConverterSnapshot.countThreadCacheMisses();
+        Optional<BusinessException> result = findConverter(t).map(converter -> converter.convert(t));
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.sourceClass = t.getClass();
+            event.targetClass = result.map(Object::getClass).orElse(null);
+            event.chainDepth = ExceptionUtils.getThrowableCount(t);
+            event.cacheHit = (ExceptionConverterSnapshot.countThreadCacheMisses() == cacheMisses);
+            event.commit();
+        }
+
+        return result;
+    }
+
+    /**
+     * Estimates number of lookup results cached by the current snapshot. Waits for initialization, if needed.
+     *
+     * @return number of cached lookup results (always 0 in {@link ExceptionConverterProperties.LookupMode#DISPATCHER}
+     *         mode, which caches nothing)
+     */
+    public long estimateCacheSize() {
+        return currentSnapshot().estimateCacheSize();
+    }
+
+    /**
+     * Converts each exception the same way as applying {@link SubclassBeforeSuperclassExceptionIterator} to
+     * {@link guru.nicks.commons.exception.visitor.ExceptionConverterFinderVisitor} does: the most specific exception
+     * having a converter is picked out of each cause chain. Chains consisting of the same classes (which is typical for
+     * batch processing) are ordered, and their converters are looked up, only once per call.
+     *
+     * @param exceptions exceptions to convert ({@code null} elements are allowed)
+     * @return conversion results, in the same order as the argument ({@code null} elements yield empty results)
+     */
+    public List<Optional<BusinessException>> convertAll(List<? extends Throwable> exceptions) {
+        return convertAll(exceptions, null);
+    }
+
+    /**
+     * Does the same as {@link #convertAll(List)}, optionally in parallel. All exceptions are converted with the same
+     * registry snapshot, even if converters are updated meanwhile.
+     *
+     * @param exceptions exceptions to convert ({@code null} elements are allowed)
+     * @param pool       pool to convert exceptions in, {@code null} means converting them in the current thread
+     * @return conversion results, in the same order as the argument ({@code null} elements yield empty results)
+     */
+    public List<Optional<BusinessException>> convertAll(List<? extends Throwable> exceptions,
+            @Nullable ForkJoinPool pool) {
+        checkNotNull(exceptions, "exceptions");
+        ExceptionConverterSnapshot current = currentSnapshot();
+
+        // keys are chain class signatures
+        var resolutions = new ConcurrentHashMap<List<Class<? extends Throwable>>, Optional<Map.Entry<
+                Class<? extends Throwable>, ExceptionConverter<Throwable, ? extends BusinessException>>>>();
+
+        if (pool == null) {
+            return exceptions.stream()
+                    .map(t -> convertChain(t, current, resolutions))
+                    .toList();
+        }
+
+        // random access is needed for splitting, and parallel stream uses the pool it's started in
+        Throwable[] array = exceptions.toArray(Throwable[]::new);
+        return pool.submit(() -> IntStream.range(0, array.length)
+                        .parallel()
+                        .mapToObj(i -> convertChain(array[i], current, resolutions))
+                        .toList())
+                .join();
+    }
+
+    /**
+     * Called from {@link #convertAll(List, ForkJoinPool)} for each exception.
+     *
+     * @param t           exception to convert
+     * @param current     snapshot to look up converters in
+     * @param resolutions chain class signatures mapped to the class of chain element to convert and its converter
+     * @return conversion result
+     */
+    private Optional<BusinessException> convertChain(@Nullable Throwable t, ExceptionConverterSnapshot current,
+            Map<List<Class<? extends Throwable>>, Optional<Map.Entry<Class<? extends Throwable>,
+                    ExceptionConverter<Throwable, ? extends BusinessException>>>> resolutions) {
+        if (t == null) {
+            return Optional.empty();
+        }
 
-        // if not found, find converter (map value) whose target exception class (map key) is a superclass or t
-        if (converter == null) {
-            converter = exceptionConverterWrappers.entrySet()
-                    .stream()
-                    .filter(mapEntry -> mapEntry.getKey().isAssignableFrom(exceptionClass))
-                    .findFirst()
-                    .map(Map.Entry::getValue)
-                    .orElse(null);
+        var event = new ExceptionConversionEvent();
+        List<Throwable> chain = ExceptionUtils.getThrowableList(t);
+
+        if (!event.isEnabled()) {
+            return findResolution(chain, current, resolutions).map(found -> found.getValue()
+                    .convert(findLastOfClass(chain, found.getKey())));
         }
 
-        // can't log the concrete converter class because it's wrapped in a generic catch-all converter
-        log.debug("Looked up (on cache miss) converter for exception [{}]", exceptionClass.getName());
-        return Optional.ofNullable(converter);
+        event.begin();
+        long cacheMisses = ExceptionConverterSnapshot.countThreadCacheMisses();
+        var resolution = findResolution(chain, current, resolutions);
+        Optional<BusinessException> result = resolution.map(found -> found.getValue()
+                .convert(findLastOfClass(chain, found.getKey())));
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.sourceClass = resolution.<Class<?>>map(Map.Entry::getKey).orElse(t.getClass());
+            event.targetClass = result.map(Object::getClass).orElse(null);
+            event.chainDepth = chain.size();
+            event.cacheHit = (ExceptionConverterSnapshot.countThreadCacheMisses() == cacheMisses);
+            event.commit();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the resolution of the given chain's class signature, resolving it on first use.
+     *
+     * @param chain       exception chain, not empty
+     * @param current     snapshot to look up converters in
+     * @param resolutions chain class signatures mapped to the class of chain element to convert and its converter
+     * @return optional pair of the exception class and its converter
+     */
+    private Optional<Map.Entry<Class<? extends Throwable>, ExceptionConverter<Throwable, ? extends BusinessException>>>
+            findResolution(List<Throwable> chain, ExceptionConverterSnapshot current,
+            Map<List<Class<? extends Throwable>>, Optional<Map.Entry<Class<? extends Throwable>,
+                    ExceptionConverter<Throwable, ? extends BusinessException>>>> resolutions) {
+        List<Class<? extends Throwable>> signature = chain.stream()
+                .<Class<? extends Throwable>>map(Throwable::getClass)
+                .toList();
+
+        // map computes missing values in the calling thread, so reused resolutions count as cache hits
+        return resolutions.computeIfAbsent(signature, ignored -> resolveChain(chain.getFirst(), current));
+    }
+
+    /**
+     * Finds the exception to convert in the given chain, and its converter.
+     *
+     * @param t       start of chain
+     * @param current snapshot to look up converters in
+     * @return optional pair of the exception class and its converter
+     */
+    private Optional<Map.Entry<Class<? extends Throwable>, ExceptionConverter<Throwable, ? extends BusinessException>>>
+            resolveChain(Throwable t, ExceptionConverterSnapshot current) {
+        return new SubclassBeforeSuperclassExceptionIterator(t).acceptUntilResult(throwable ->
+                findConverter(throwable, current)
+                        .map(converter -> Map.entry(throwable.getClass(), converter)));
+    }
+
+    /**
+     * {@link SubclassBeforeSuperclassExceptionIterator} yields the last of same-class exceptions, so this method does
+     * the same.
+     */
+    private static Throwable findLastOfClass(List<Throwable> chain, Class<? extends Throwable> exceptionClass) {
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            if (chain.get(i).getClass() == exceptionClass) {
+                return chain.get(i);
+            }
+        }
+
+        throw new IllegalStateException("Exception chain lacks " + exceptionClass.getName());
+    }
+
+    /**
+     * Remembers exception classes in {@link #profile}, if any, and notifies {@link #observer}.
+     */
+    private void onCacheMiss(Class<? extends Throwable> exceptionClass) {
+        observer.onCacheMiss(exceptionClass);
+
+        ExceptionClassProfile currentProfile = profile;
+        if (currentProfile != null) {
+            currentProfile.add(exceptionClass);
+        }
+    }
+
+    /**
+     * Creates {@link #profile} and starts saving it periodically (in addition to saving it on shutdown), unless the
+     * registry has already been destroyed.
+     *
+     * @param profileProperties profile settings, {@link ExceptionConverterProperties.Profile#getSaveInterval()}
+     *                          {@code null} means saving on shutdown only
+     */
+    private void startProfiling(ExceptionConverterProperties.Profile profileProperties) {
+        updateLock.lock();
+
+        try {
+            if (destroyed) {
+                return;
+            }
+
+            var newProfile = new ExceptionClassProfile(profileProperties.getFile());
+            profile = newProfile;
+            Duration saveInterval = profileProperties.getSaveInterval();
+
+            if ((saveInterval == null) || saveInterval.isZero() || saveInterval.isNegative()) {
+                return;
+            }
+
+            ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                    .name("exception-converter-profile-saver")
+                    .factory());
+            saver.scheduleWithFixedDelay(newProfile::save, saveInterval.toMillis(), saveInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+            profileSaver = saver;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Prepares looking up converters in background (in a virtual thread) for exception classes listed in
+     * {@link #profile} and for all concrete exception classes found in the given packages, so they're cached before the
+     * first request needs them. Assigns {@link #prepopulation}, but the returned task must be started only after
+     * initialization completes.
+     *
+     * @param initialSnapshot snapshot about to be published
+     * @param packages        packages to scan
+     * @return task completing {@link #prepopulation}, {@code null} if there's nothing to look up
+     */
+    @Nullable
+    private Runnable preparePrepopulation(ExceptionConverterSnapshot initialSnapshot, List<String> packages) {
+        if ((profile == null) && packages.isEmpty()) {
+            return null;
+        }
+
+        if (initialSnapshot.getLookupMode() == ExceptionConverterProperties.LookupMode.DISPATCHER) {
+            log.info("Skipping converter lookup pre-population: dispatcher doesn't need it");
+            return null;
+        }
+
+        var future = new CompletableFuture<Integer>();
+        prepopulation = future;
+
+        return () -> {
+            try {
+                ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+                future.complete(prepopulateFromProfile(classLoader) + prepopulateFromPackages(packages, classLoader));
+            } catch (RuntimeException e) {
+                log.warn("Failed to pre-populate converter lookups: {}", e.getMessage(), e);
+                future.completeExceptionally(e);
+            }
+        };
+    }
+
+    /**
+     * Called from {@link #preparePrepopulation(ExceptionConverterSnapshot, List)}. Classes which no longer exist are skipped.
+     *
+     * @param classLoader class loader to load classes with
+     * @return number of exception classes whose converters have been looked up
+     */
+    private int prepopulateFromProfile(ClassLoader classLoader) {
+        if (profile == null) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        List<String> classNames = profile.load();
+        int found = 0;
+
+        for (String className : classNames) {
+            if (prepopulate(className, classLoader)) {
+                found++;
+            }
+        }
+
+        log.info("Pre-populated converter lookups for {} of {} exception classes listed in profile [{}] in {} ms",
+                found, classNames.size(), profile.getFile(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return found;
+    }
+
+    /**
+     * Called from {@link #preparePrepopulation(ExceptionConverterSnapshot, List)}.
+     *
+     * @param packages    packages to scan
+     * @param classLoader class loader to load classes with
+     * @return number of exception classes whose converters have been looked up
+     */
+    private int prepopulateFromPackages(List<String> packages, ClassLoader classLoader) {
+        if (packages.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+
+        // class metadata is matched without loading classes
+        var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        currentSnapshot().getSourceClasses()
+                .forEach(sourceClass -> scanner.addIncludeFilter(new AssignableTypeFilter(sourceClass)));
+
+        int total = 0;
+
+        for (String basePackage : packages) {
+            int found = 0;
+
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                if (prepopulate(candidate.getBeanClassName(), classLoader)) {
+                    found++;
+                }
+            }
+
+            total += found;
+            log.info("Pre-populated converter lookups for {} exception classes in package [{}]", found, basePackage);
+        }
+
+        log.info("Pre-populated converter lookups for {} exception classes in {} ms", total,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return total;
+    }
+
+    /**
+     * Looks up converter for the given class, if it exists and is an exception class.
+     *
+     * @return {@code true} if the converter has been looked up
+     */
+    private boolean prepopulate(String className, ClassLoader classLoader) {
+        try {
+            Class<?> exceptionClass = ClassUtils.forName(className, classLoader);
+            // converters may be updated meanwhile, so the latest snapshot is always used
+            currentSnapshot().findCachedConverter(exceptionClass.asSubclass(Throwable.class));
+            return true;
+        } catch (ClassNotFoundException | LinkageError | ClassCastException e) {
+            log.debug("Skipping exception class [{}]: {}", className, e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Resolves source class, target class, and target exception factory for each converter - so that none of that
+     * happens during conversion.
+     *
+     * @throws IllegalStateException source or target class can't be retrieved for some converter
+     */
+    private Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> describeConverters(
+            ExceptionConverterMap converters) {
+        var descriptors = new LinkedHashMap<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>>();
+        converters.forEach((exceptionClass, converter) -> descriptors.put(exceptionClass,
+                ExceptionConverterDescriptor.of(converter,
+                        properties.getStackless().isStackless(converter.getTargetClass()))));
+        return Collections.unmodifiableMap(descriptors);
     }
 
     private void logConverters(ExceptionConverterMap converters) {
@@ -99,67 +739,160 @@ public class ExceptionConverterRegistry {
                 .collect(Collectors.joining(", ", "{", "}")));
     }
 
+    /**
+     * Performs structural checks unless {@link ExceptionConverterProperties#getVerification()} is
+     * {@link ExceptionConverterProperties.Verification#OFF}.
+     *
+     * @throws IllegalStateException verification failed
+     */
+    private void verifyConverters(ExceptionConverterMap converters,
+            Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> descriptors) {
+        if (properties.getVerification() == ExceptionConverterProperties.Verification.OFF) {
+            log.info("Skipping verification of exception converters");
+            return;
+        }
+
+        long start = System.nanoTime();
+        verifyConverterOrder(converters);
+        verifyFactories(descriptors);
+
+        log.info("Verified order and target exception factories of {} exception converters in {} ms",
+                converters.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
     /**
      * If ExceptionB inherits from ExceptionA, converter for ExceptionB should go before that for ExceptionA - because
      * the latter is applicable to ExceptionB too.
+     * <p>
+     * Instead of comparing each pair of source classes, each class is compared with its superclasses only, which is
+     * linear in the number of converters because exception hierarchies are shallow.
+     *
+     * @throws IllegalStateException wrong order
+     */
+    private void verifyConverterOrder(ExceptionConverterMap converters) {
+        Map<Class<?>, Integer> positions = HashMap.newHashMap(converters.size());
+        converters.keySet().forEach(sourceClass -> positions.put(sourceClass, positions.size()));
+
+        for (var entry : converters.entrySet()) {
+            Class<? extends Throwable> sourceClass = entry.getKey();
+            int position = positions.get(sourceClass);
+
+            for (Class<?> superclass = sourceClass.getSuperclass(); superclass != null;
+                    superclass = superclass.getSuperclass()) {
+                Integer superclassPosition = positions.get(superclass);
+
+                if ((superclassPosition != null) && (superclassPosition < position)) {
+                    throw new IllegalStateException("Wrong map key order: exception converter ["
+                            + entry.getValue().getClass().getName()
+                            + "] which converts [" + sourceClass.getName()
+                            + "] is masked by early occurrence of ["
+                            + converters.get(superclass).getClass().getName()
+                            + "] which converts its superclass [" + superclass.getName() + "]");
+                }
+            }
+        }
+    }
+
+    /**
+     * Binds target exception factories for converters relying on default
+     * {@link ExceptionConverter#convert(Throwable)}, so a target exception class lacking a constructor accepting
+     * {@link Throwable} (or, if it's explicitly listed in {@link ExceptionConverterProperties.Stackless}, a class that
+     * can't be subclassed to skip stack trace filling) is reported at startup and not on the first conversion.
      *
-     * @throws IllegalStateException thrown if the above issue has not been solved
+     * @throws IllegalStateException some target exception can't be created
      */
-    private void verifyConverters(ExceptionConverterMap converters, ExceptionConverterWrapperMap wrappers) {
-        long entriesToSkip = 1;
+    private void verifyFactories(Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> descriptors) {
+        descriptors.values()
+                .stream()
+                .filter(ExceptionConverterDescriptor::isDefaultConversion)
+                .forEach(descriptor -> {
+                    verifyStacklessFactory(descriptor);
 
-        for (var leftMapEntry : converters.entrySet()) {
-            Class<? extends Throwable> leftExceptionClass = leftMapEntry.getKey();
-            ExceptionConverter<?, ?> leftExceptionConverter = leftMapEntry.getValue();
+                    try {
+                        descriptor.getFactory();
+                    } catch (IllegalStateException e) {
+                        throw new IllegalStateException("Exception converter ["
+                                + descriptor.getConverterClass().getName() + "] can't create its target exception", e);
+                    }
+                });
+    }
 
-            // For each key to the right of the current one (i.e. starting with entriesToSkip index), ensure that none
-            // of its subclasses are there. This is not a NavigableMap, so there's no tailMap method.
-            converters.entrySet()
-                    .stream()
-                    .skip(entriesToSkip)
-                    .forEach(rightMapEntry -> {
-                        Class<? extends Throwable> rightExceptionClass = rightMapEntry.getKey();
+    private void verifyStacklessFactory(ExceptionConverterDescriptor<?, ?> descriptor) {
+        if (!descriptor.isStackless()
+                || ExceptionConverterDescriptor.findStacklessFactory(descriptor.getTargetClass()).isPresent()) {
+            return;
+        }
 
-                        if (leftExceptionClass.isAssignableFrom(rightExceptionClass)) {
-                            ExceptionConverter<?, ?> rightExceptionConverter = rightMapEntry.getValue();
+        if (properties.getStackless().getTargetClasses().contains(descriptor.getTargetClass())) {
+            throw new IllegalStateException("Target exception [" + descriptor.getTargetClass().getName()
+                    + "] can't be created without stack trace");
+        }
 
-                            throw new IllegalStateException("Wrong map key order: exception converter ["
-                                    + rightExceptionConverter.getClass().getName()
-                                    + "] which converts [" + rightExceptionClass.getName()
-                                    + "] is masked by early occurrence of ["
-                                    + leftExceptionConverter.getClass().getName()
-                                    + "] which converts its superclass [" + leftExceptionClass.getName() + "]");
-                        }
-                    });
+        log.info("Target exception [{}] will be created with stack trace: its class can't be subclassed",
+                descriptor.getTargetClass().getName());
+    }
 
-            entriesToSkip++;
+    /**
+     * Invokes each converter with an instance of its source exception class, if possible (only if
+     * {@link ExceptionConverterProperties#getVerification()} is
+     * {@link ExceptionConverterProperties.Verification#FULL}). Converters are invoked in
+     * parallel because instantiating exceptions reflectively (and filling their stack traces) is the slowest part of
+     * verification.
+     *
+     * @throws IllegalStateException converter failed unexpectedly (the first one in map order is reported)
+     */
+    private void invokeConverters(ExceptionConverterWrapperMap wrappers) {
+        if (properties.getVerification() != ExceptionConverterProperties.Verification.FULL) {
+            return;
         }
 
-        // invoke exception converters
-        wrappers.forEach((clazz, converter) -> {
-            Throwable exception;
-            boolean exceptionArgumentIsCorrect = false;
+        long start = System.nanoTime();
 
-            // it's not always possible to instantiate the needed exception class because of different constructors
-            try {
-                exception = ConstructorUtils.invokeConstructor(clazz, "test message");
-                exceptionArgumentIsCorrect = true;
-            } catch (NoSuchMethodException | InstantiationException
-                     | IllegalAccessException | InvocationTargetException e) {
-                exception = new Exception();
-            }
+        wrappers.entrySet()
+                .parallelStream()
+                .map(entry -> invokeConverter(entry.getKey(), entry.getValue()))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .ifPresent(e -> {
+                    throw e;
+                });
 
-            try {
-                converter.convert(exception);
-            }
-            // No error is expected if exception class is exactly what's expected by this converter. Otherwise,
-            // converter should throw ClassCastException because it expects a certain argument class.
-            catch (Exception e) {
-                if (exceptionArgumentIsCorrect || !(ExceptionUtils.getRootCause(e) instanceof ClassCastException)) {
-                    throw new IllegalStateException("Unexpected error from " + converter.getClass().getName(), e);
-                }
+        log.info("Invoked {} exception converters in {} ms", wrappers.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Called from {@link #invokeConverters(ExceptionConverterWrapperMap)}.
+     *
+     * @return error, if any
+     */
+    private Optional<IllegalStateException> invokeConverter(Class<? extends Throwable> clazz,
+            ExceptionConverter<Throwable, ? extends BusinessException> converter) {
+        Throwable exception;
+        boolean exceptionArgumentIsCorrect = false;
+
+        // it's not always possible to instantiate the needed exception class because of different constructors
+        try {
+            exception = ConstructorUtils.invokeConstructor(clazz, "test message");
+            exceptionArgumentIsCorrect = true;
+        } catch (NoSuchMethodException | InstantiationException
+                 | IllegalAccessException | InvocationTargetException e) {
+            exception = new Exception();
+        }
+
+        try {
+            converter.convert(exception);
+        }
+        // No error is expected if exception class is exactly what's expected by this converter. Otherwise,
+        // converter should throw ClassCastException because it expects a certain argument class.
+        catch (Exception e) {
+            if (exceptionArgumentIsCorrect || !(ExceptionUtils.getRootCause(e) instanceof ClassCastException)) {
+                return Optional.of(new IllegalStateException(
+                        "Unexpected error from " + converter.getClass().getName(), e));
             }
-        });
+        }
+
+        return Optional.empty();
     }
 
 }
@@ -0,0 +1,305 @@
+package guru.nicks.commons.exception.mapper;
+
+import guru.nicks.commons.cache.domain.CacheConstants;
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Immutable state of {@link ExceptionConverterRegistry} built out of a certain set of converters: converter maps, the
+ * lookup structure for the effective lookup mode, and the lookup cache. The registry replaces its snapshot as a whole
+ * when converters are added or removed, so lookups never see a half-updated state, never take locks, and never get
+ * stale results out of the cache (each snapshot has its own one).
+ */
+@Slf4j
+final class ExceptionConverterSnapshot {
+
+    /**
+     * Number of cache misses in each thread, see {@link #countThreadCacheMisses()}. An array is mutated in place to
+     * avoid boxing.
+     */
+    private static final ThreadLocal<long[]> THREAD_CACHE_MISSES = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Sequence number of this snapshot, starting with 1 for the one built at registry initialization.
+     */
+    @Getter
+    private final long epoch;
+
+    /**
+     * Converters this snapshot is built of (immutable), in registration order.
+     */
+    @Getter
+    private final List<ExceptionConverter<?, ?>> converters;
+
+    /**
+     * Descriptors of {@link #converters} (immutable), keyed by source exception class. Key order is the same as in
+     * {@link ExceptionConverterMap}.
+     */
+    @Getter
+    private final Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> descriptors;
+
+    /**
+     * Converters wrapped to accept any exception (immutable), keyed by source exception class - for exact class lookups
+     * only.
+     */
+    private final Map<Class<? extends Throwable>, ExceptionConverter<Throwable, ? extends BusinessException>> index;
+
+    /**
+     * Effective lookup mode: the configured one, except for {@link ExceptionConverterProperties.LookupMode#CACHE} if
+     * the configured mode is {@link ExceptionConverterProperties.LookupMode#DISPATCHER} but {@link #dispatcher} can't be
+     * generated.
+     */
+    @Getter
+    private final ExceptionConverterProperties.LookupMode lookupMode;
+
+    /**
+     * Present in {@link ExceptionConverterProperties.LookupMode#DISPATCHER} mode unless generation failed.
+     */
+    @Nullable
+    private final ExceptionConverterDispatcher dispatcher;
+
+    /**
+     * Results of {@link #findConverter(Throwable)} for each {@link #dispatcher} index, created in advance so lookups
+     * don't allocate anything.
+     */
+    @Nullable
+    private final Optional<ExceptionConverter<Throwable, ? extends BusinessException>>[] dispatchedConverters;
+
+    /**
+     * Cache storing exception converters by exception class. Needed for performance, as the lookup involves walking up
+     * the exception class hierarchy to find the matching converter. Keys are held weakly if
+     * {@link ExceptionConverterProperties#isWeakCacheKeys()} is set.
+     */
+    private final Cache<Class<? extends Throwable>,
+            Optional<ExceptionConverter<Throwable, ? extends BusinessException>>> converterCache;
+
+    /**
+     * Alternative to {@link #converterCache} for {@link ExceptionConverterProperties.LookupMode#CLASS_VALUE} mode.
+     * Values of a discarded snapshot go away together with it.
+     */
+    private final ClassValue<Optional<ExceptionConverter<Throwable, ? extends BusinessException>>> converterClassValue =
+            new ClassValue<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Optional<ExceptionConverter<Throwable, ? extends BusinessException>> computeValue(
+                        Class<?> exceptionClass) {
+                    classValueSize.increment();
+                    return findConverterWithoutCache((Class<? extends Throwable>) exceptionClass);
+                }
+            };
+
+    /**
+     * Notified of each exception class looked up on cache miss.
+     */
+    private final Consumer<Class<? extends Throwable>> cacheMissListener;
+
+    /**
+     * Number of values computed by {@link #converterClassValue}, which can't be queried for its size.
+     */
+    private final LongAdder classValueSize = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param epoch             sequence number of this snapshot
+     * @param converters        converters this snapshot is built of
+     * @param descriptors       converter descriptors, keyed by source exception class
+     * @param wrappers          converters wrapped to accept any exception
+     * @param properties        registry settings
+     * @param observer          decorates converters, see
+     *                          {@link ExceptionConverterObserver#observe(ExceptionConverterDescriptor, ExceptionConverter)}
+     * @param cacheMissListener notified of each exception class looked up on cache miss
+     */
+    @SuppressWarnings("unchecked")
+    ExceptionConverterSnapshot(long epoch, List<ExceptionConverter<?, ?>> converters,
+            Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> descriptors,
+            ExceptionConverterWrapperMap wrappers, ExceptionConverterProperties properties,
+            ExceptionConverterObserver observer, Consumer<Class<? extends Throwable>> cacheMissListener) {
+        this.epoch = epoch;
+        this.converters = List.copyOf(converters);
+        this.descriptors = descriptors;
+        this.cacheMissListener = cacheMissListener;
+
+        // observed converters must be the ones returned by lookups
+        var observedWrappers = new LinkedHashMap<Class<? extends Throwable>,
+                ExceptionConverter<Throwable, ? extends BusinessException>>();
+        wrappers.forEach((exceptionClass, converter) -> observedWrappers.put(exceptionClass,
+                observer.observe(descriptors.get(exceptionClass), converter)));
+        index = Map.copyOf(observedWrappers);
+
+        Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
+                .maximumSize(CacheConstants.DEFAULT_CAFFEINE_CACHE_CAPACITY)
+                .expireAfterAccess(Duration.ofDays(ExceptionConverterRegistry.CACHE_TTL_DAYS));
+
+        // weak keys are compared by identity, which is what Class.equals() does anyway
+        if (properties.isWeakCacheKeys()) {
+            cacheBuilder.weakKeys();
+        }
+
+        converterCache = cacheBuilder.build();
+        ExceptionConverterProperties.LookupMode configuredMode = properties.getLookupMode();
+
+        // compile converter order into dispatcher; if that's impossible, the cache is used
+        ExceptionConverterDispatcher generatedDispatcher = null;
+        Optional<ExceptionConverter<Throwable, ? extends BusinessException>>[] results = null;
+
+        if (configuredMode == ExceptionConverterProperties.LookupMode.DISPATCHER) {
+            var sourceClasses = new ArrayList<Class<? extends Throwable>>(observedWrappers.size());
+            var resultList = new ArrayList<Optional<ExceptionConverter<Throwable, ? extends BusinessException>>>(
+                    observedWrappers.size());
+
+            observedWrappers.forEach((exceptionClass, converter) -> {
+                sourceClasses.add(exceptionClass);
+                resultList.add(Optional.of(converter));
+            });
+
+            results = resultList.toArray(Optional[]::new);
+            generatedDispatcher = ExceptionConverterDispatcherGenerator.generate(sourceClasses).orElse(null);
+
+            if (generatedDispatcher == null) {
+                log.warn("Falling back to cached converter lookup");
+            } else {
+                log.info("Generated exception converter dispatcher for {} source classes", sourceClasses.size());
+            }
+        }
+
+        dispatcher = generatedDispatcher;
+        dispatchedConverters = results;
+        lookupMode = (dispatcher != null)
+                ? ExceptionConverterProperties.LookupMode.DISPATCHER
+                : (configuredMode == ExceptionConverterProperties.LookupMode.CLASS_VALUE)
+                        ? ExceptionConverterProperties.LookupMode.CLASS_VALUE
+                        : ExceptionConverterProperties.LookupMode.CACHE;
+    }
+
+    /**
+     * Returns source exception classes of {@link #converters}.
+     *
+     * @return source classes (immutable, unordered)
+     */
+    public Set<Class<? extends Throwable>> getSourceClasses() {
+        return index.keySet();
+    }
+
+    /**
+     * Estimates number of cached lookup results.
+     *
+     * @return number of cached lookup results (always 0 in {@link ExceptionConverterProperties.LookupMode#DISPATCHER}
+     *         mode, which caches nothing)
+     */
+    public long estimateCacheSize() {
+        return switch (lookupMode) {
+            case CACHE -> converterCache.estimatedSize();
+            // values are computed only once per class, unless computations race
+            case CLASS_VALUE -> classValueSize.sum();
+            case DISPATCHER -> 0;
+        };
+    }
+
+    /**
+     * Finds exception class converter, see {@link ExceptionConverterRegistry#findConverter(Throwable)}.
+     *
+     * @param t exception to find converter for
+     * @return optional converter
+     */
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverter(Throwable t) {
+        return switch (lookupMode) {
+            case DISPATCHER -> {
+                int index = dispatcher.classify(t);
+                yield (index == ExceptionConverterDispatcher.NOT_FOUND)
+                        ? Optional.empty()
+                        : dispatchedConverters[index];
+            }
+
+            case CLASS_VALUE, CACHE -> findCachedConverter(t.getClass());
+        };
+    }
+
+    /**
+     * Looks up converter in {@link #converterClassValue} or {@link #converterCache}, depending on {@link #lookupMode}.
+     *
+     * @param exceptionClass exception class to find converter for
+     * @return optional converter
+     */
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findCachedConverter(
+            Class<? extends Throwable> exceptionClass) {
+        return (lookupMode == ExceptionConverterProperties.LookupMode.CLASS_VALUE)
+                ? converterClassValue.get(exceptionClass)
+                // 'get' method may return null as per Caffeine specs, but never does in this particular case
+                : converterCache.get(exceptionClass, this::findConverterWithoutCache);
+    }
+
+    /**
+     * Called from {@link #findCachedConverter(Class)} on cache miss. Walks up the class hierarchy, so the cost depends on
+     * the exception class depth and not on the number of converters. This gives the same result as picking the first
+     * {@link ExceptionConverterWrapperMap} key the exception class is assignable to: all such keys are superclasses of
+     * the exception class, and subclasses go first (exception classes can't be interfaces).
+     *
+     * @param exceptionClass exception class to find converter for
+     * @return optional converter
+     */
+    public Optional<ExceptionConverter<Throwable, ? extends BusinessException>> findConverterWithoutCache(
+            Class<? extends Throwable> exceptionClass) {
+        var event = new ConverterLookupMissEvent();
+        event.begin();
+
+        // cache lookups compute missing values in the calling thread, so this tells the caller the lookup has missed
+        THREAD_CACHE_MISSES.get()[0]++;
+        cacheMissListener.accept(exceptionClass);
+
+        ExceptionConverter<Throwable, ? extends BusinessException> converter = null;
+        Class<?> clazz = exceptionClass;
+        int depth = 0;
+
+        // the closest superclass having a converter wins
+        for (; (clazz != null) && (converter == null); depth++) {
+            converter = index.get(clazz);
+
+            if (converter == null) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.exceptionClass = exceptionClass;
+            event.sourceClass = clazz;
+            event.hierarchyDepth = depth;
+            event.commit();
+        }
+
+        // can't log the concrete converter class because it's wrapped in a generic catch-all converter
+        log.debug("Looked up (on cache miss) converter for exception [{}]", exceptionClass.getName());
+        return Optional.ofNullable(converter);
+    }
+
+    /**
+     * Returns the number of {@link #findConverterWithoutCache(Class)} calls made in the current thread by all snapshots.
+     * Comparing it before and after a lookup tells whether the lookup has been served from cache.
+     *
+     * @return number of cache misses in the current thread
+     */
+    public static long countThreadCacheMisses() {
+        return THREAD_CACHE_MISSES.get()[0];
+    }
+
+}
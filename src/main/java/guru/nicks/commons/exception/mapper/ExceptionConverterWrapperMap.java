@@ -3,6 +3,10 @@ package guru.nicks.commons.exception.mapper;
 import guru.nicks.commons.designpattern.SubclassBeforeSuperclassMap;
 import guru.nicks.commons.exception.BusinessException;
 import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Keys are exception classes (hierarchy roots), values are their mappers (wrappers that accept plain {@link Throwable},
@@ -23,6 +27,29 @@ public class ExceptionConverterWrapperMap
         return map;
     }
 
+    /**
+     * Creates wrappers for {@code converters}. Converters relying on default
+     * {@link ExceptionConverter#convert(Throwable)} are replaced with their descriptors' factories, which saves a couple
+     * of indirections during conversion.
+     *
+     * @param converters  exception converters
+     * @param descriptors converter descriptors, keyed by source exception class
+     */
+    public static ExceptionConverterWrapperMap of(ExceptionConverterMap converters,
+            Map<Class<? extends Throwable>, ExceptionConverterDescriptor<?, ?>> descriptors) {
+        var map = new ExceptionConverterWrapperMap();
+
+        converters.forEach((exceptionClass, exceptionConverter) -> {
+            ExceptionConverterDescriptor<?, ?> descriptor = descriptors.get(exceptionClass);
+
+            map.put(exceptionClass, ((descriptor != null) && descriptor.isDefaultConversion())
+                    ? bindExceptionConverter(descriptor)
+                    : generalizeExceptionConverter(exceptionConverter));
+        });
+
+        return map;
+    }
+
     /**
      * Creates {@link ExceptionConverter} which accepts <b>any</b> exception, but under the hood assumes it's {@code S}.
      * The idea is to catch {@link Throwable}, find out its real class ({@code S}) in the map, and invoke the matching
@@ -47,4 +74,30 @@ public class ExceptionConverterWrapperMap
         };
     }
 
+    /**
+     * Creates {@link ExceptionConverter} which accepts <b>any</b> exception and passes it to the target exception
+     * factory bound in advance.
+     *
+     * @param descriptor descriptor of converter relying on default {@link ExceptionConverter#convert(Throwable)}
+     * @param <T>        target exception type
+     * @return function which accepts {@link Exception} and creates {@code T}
+     * @throws IllegalStateException target exception factory can't be bound
+     */
+    private static <T extends BusinessException> ExceptionConverter<Throwable, T> bindExceptionConverter(
+            ExceptionConverterDescriptor<?, T> descriptor) {
+        Class<T> targetClass = descriptor.getTargetClass();
+        Function<Throwable, T> factory = descriptor.getFactory();
+
+        return new ExceptionConverter<>() {
+            @Override
+            public T convert(Throwable cause) {
+                try {
+                    return factory.apply(cause);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Failed to instantiate " + targetClass.getName(), e);
+                }
+            }
+        };
+    }
+
 }
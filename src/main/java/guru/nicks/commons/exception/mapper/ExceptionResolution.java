@@ -0,0 +1,39 @@
+package guru.nicks.commons.exception.mapper;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.rest.dto.FieldErrorDto;
+
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Everything needed to report an exception: its conversion result, field errors, error code, and HTTP status.
+ *
+ * @param <T> error code type
+ * @see ExceptionResolver#resolve(Throwable)
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString
+public final class ExceptionResolution<T extends Enum<T>> {
+
+    /**
+     * {@code null} if no converter was found.
+     */
+    @Nullable
+    private final BusinessException exception;
+
+    /**
+     * Immutable, empty if no field errors were found.
+     */
+    private final List<FieldErrorDto> fieldErrors;
+
+    private final T errorCode;
+    private final HttpStatus httpStatus;
+
+}
@@ -0,0 +1,76 @@
+package guru.nicks.commons.exception.mapper;
+
+import guru.nicks.commons.exception.BusinessException;
+import guru.nicks.commons.exception.SubclassBeforeSuperclassExceptionIterator;
+import guru.nicks.commons.exception.visitor.ExceptionConverterFinderVisitor;
+import guru.nicks.commons.exception.visitor.FieldErrorDiscovererVisitor;
+import guru.nicks.commons.rest.dto.FieldErrorDto;
+
+import java.util.List;
+
+import static guru.nicks.commons.validation.dsl.ValiDsl.checkNotNull;
+
+/**
+ * Resolves everything needed to report an exception in a single pass over its cause chain. The result is the same as
+ * that of applying {@link SubclassBeforeSuperclassExceptionIterator} to {@link ExceptionConverterFinderVisitor} and
+ * {@link FieldErrorDiscovererVisitor} separately, and then calling {@link ErrorCodeMapper#toErrorCode(BusinessException)}
+ * and {@link ErrorCodeMapper#toHttpStatus(BusinessException)}.
+ * <p>
+ * Error codes and HTTP statuses are not cached here, as {@link ErrorCodeMapper} methods may be overridden to depend on
+ * exception instances. Converter lookups are cached by {@link ExceptionConverterRegistry}.
+ *
+ * @param <T> error code type
+ */
+public class ExceptionResolver<T extends Enum<T>> {
+
+    private final ExceptionConverterRegistry exceptionConverterRegistry;
+    private final FieldErrorDiscovererVisitor fieldErrorDiscovererVisitor;
+    private final ErrorCodeMapper<T> errorCodeMapper;
+
+    /**
+     * Constructor.
+     *
+     * @param exceptionConverterRegistry  converts exceptions to {@link BusinessException}
+     * @param fieldErrorDiscovererVisitor extracts field errors out of exceptions
+     * @param errorCodeMapper             maps {@link BusinessException} to error codes and HTTP statuses
+     */
+    public ExceptionResolver(ExceptionConverterRegistry exceptionConverterRegistry,
+            FieldErrorDiscovererVisitor fieldErrorDiscovererVisitor, ErrorCodeMapper<T> errorCodeMapper) {
+        this.exceptionConverterRegistry = checkNotNull(exceptionConverterRegistry, "exceptionConverterRegistry");
+        this.fieldErrorDiscovererVisitor = checkNotNull(fieldErrorDiscovererVisitor, "fieldErrorDiscovererVisitor");
+        this.errorCodeMapper = checkNotNull(errorCodeMapper, "errorCodeMapper");
+    }
+
+    /**
+     * Walks the exception chain (for item order, see {@link SubclassBeforeSuperclassExceptionIterator}) until both
+     * the conversion result and field errors are found, or the chain ends.
+     *
+     * @param t exception to resolve
+     * @return resolution, with {@link ErrorCodeMapper#getDefaultErrorCode()} and
+     *         {@link ErrorCodeMapper#getDefaultHttpStatus()} if no converter was found
+     */
+    public ExceptionResolution<T> resolve(Throwable t) {
+        checkNotNull(t, "exception");
+
+        BusinessException businessException = null;
+        List<FieldErrorDto> fieldErrors = null;
+        var iterator = new SubclassBeforeSuperclassExceptionIterator(t);
+
+        while (iterator.hasNext() && ((businessException == null) || (fieldErrors == null))) {
+            Throwable throwable = iterator.next();
+
+            if (businessException == null) {
+                businessException = exceptionConverterRegistry.convert(throwable).orElse(null);
+            }
+
+            if (fieldErrors == null) {
+                fieldErrors = fieldErrorDiscovererVisitor.apply(throwable).orElse(null);
+            }
+        }
+
+        return new ExceptionResolution<>(businessException,
+                (fieldErrors == null) ? List.of() : List.copyOf(fieldErrors),
+                errorCodeMapper.toErrorCode(businessException), errorCodeMapper.toHttpStatus(businessException));
+    }
+
+}
@@ -22,9 +22,7 @@ public class ExceptionConverterFinderVisitor extends ReflectionVisitor<BusinessE
 
     @ReflectionVisitorMethod
     public Optional<BusinessException> visit(Throwable t) {
-        return exceptionConverterRegistry
-                .findConverter(t)
-                .map(converter -> converter.convert(t));
+        return exceptionConverterRegistry.convert(t);
     }
 
 }
@@ -2,32 +2,126 @@ package guru.nicks.commons.cucumber;
 
 import guru.nicks.commons.exception.BusinessException;
 import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.RootHttpStatus;
+import guru.nicks.commons.exception.SubclassBeforeSuperclassExceptionIterator;
+import guru.nicks.commons.exception.config.ExceptionConverterProperties;
+import guru.nicks.commons.exception.converter.BuiltInExceptionConverters;
+import guru.nicks.commons.exception.converter.ConnectExceptionConverter;
+import guru.nicks.commons.exception.converter.FeignExceptionConverter;
+import guru.nicks.commons.exception.converter.HttpStatusExceptionConverter;
+import guru.nicks.commons.exception.converter.IllegalArgumentExceptionConverter;
+import guru.nicks.commons.exception.converter.RestClientResponseExceptionConverter;
+import guru.nicks.commons.exception.converter.SecurityExceptionConverter;
+import guru.nicks.commons.exception.converter.UnsupportedOperationExceptionConverter;
+import guru.nicks.commons.exception.converter.WebClientResponseExceptionConverter;
+import guru.nicks.commons.exception.http.BadRequestException;
+import guru.nicks.commons.exception.http.ConflictException;
+import guru.nicks.commons.exception.http.NotFoundException;
+import guru.nicks.commons.exception.http.NotImplementedException;
+import guru.nicks.commons.exception.http.ServiceTimeoutException;
+import guru.nicks.commons.exception.http.UnauthorizedException;
+import guru.nicks.commons.exception.impl.MicrometerExceptionConverterObserver;
+import guru.nicks.commons.exception.mapper.ConvertedException;
+import guru.nicks.commons.exception.mapper.ErrorCodeMapper;
+import guru.nicks.commons.exception.mapper.ErrorCodeRegistry;
 import guru.nicks.commons.exception.mapper.ExceptionConverterRegistry;
+import guru.nicks.commons.exception.mapper.ExceptionResolution;
+import guru.nicks.commons.exception.mapper.ExceptionResolver;
+import guru.nicks.commons.exception.visitor.ExceptionConverterFinderVisitor;
+import guru.nicks.commons.exception.visitor.FieldErrorDiscovererVisitor;
+import guru.nicks.commons.rest.dto.FieldErrorDto;
+import guru.nicks.commons.rest.v1.mapper.FieldErrorMapper;
 
+import feign.FeignException;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Step definitions for testing {@link ExceptionConverterRegistry}.
  */
 public class ExceptionConverterRegistrySteps {
 
+    private static final String JFR_EVENT_PREFIX = "guru.nicks.commons.exception.";
+
     private ExceptionConverterRegistry registry;
     private List<ExceptionConverter<?, ?>> converters;
 
     private Optional<ExceptionConverter<Throwable, ? extends BusinessException>> foundConverter;
     private Throwable testException;
     private BusinessException convertedBusinessException;
+    private Throwable initException;
+    private Throwable conversionException;
+
+    private Map<ExceptionConverterProperties.LookupMode, ExceptionConverterRegistry> lookupModeRegistries;
+    private Map<ExceptionConverterProperties.LookupMode, BusinessException> lookupModeResults;
+
+    private List<Throwable> bulkExceptions;
+    private List<Optional<BusinessException>> bulkResults;
+
+    private Path profileFile;
+
+    private PluginExceptionConverter pluginConverter;
+    private CompletableFuture<Void> pendingUpdate;
+    private Throwable updateException;
+    private Queue<String> readerFailures;
+
+    private WeakReference<ClassLoader> throwawayClassLoader;
+
+    private MeterRegistry meterRegistry;
+    private List<RecordedEvent> recordedEvents;
+
+    private ExceptionResolver<TestErrorCode> exceptionResolver;
+    private ExceptionResolution<TestErrorCode> resolution;
 
     @Given("an exception converter registry with converters for different exception types")
     public void anExceptionConverterRegistryWithConvertersForDifferentExceptionTypes() throws Exception {
@@ -46,6 +140,238 @@ public class ExceptionConverterRegistrySteps {
         registry = new ExceptionConverterRegistry(converters);
     }
 
+    @Given("an exception converter registry with a converter whose target exception has no cause constructor")
+    public void anExceptionConverterRegistryWithAConverterWhoseTargetExceptionHasNoCauseConstructor() {
+        converters = List.of(new NoCauseConstructorExceptionConverter());
+        registry = new ExceptionConverterRegistry(converters);
+    }
+
+    @Given("an exception converter registry with a converter {string} and verification {string}")
+    public void anExceptionConverterRegistryWithAConverterAndVerification(String converter, String verification) {
+        converters = List.of(createConverter(converter));
+
+        var properties = new ExceptionConverterProperties();
+        properties.setVerification(ExceptionConverterProperties.Verification.valueOf(verification));
+        registry = new ExceptionConverterRegistry(converters, properties);
+    }
+
+    @Given("an exception converter registry with a converter {string} and background initialization")
+    public void anExceptionConverterRegistryWithAConverterAndBackgroundInitialization(String converter) {
+        converters = List.of(createConverter(converter));
+        registry = createBackgroundRegistry();
+    }
+
+    @Given("an exception converter registry with built-in converters and background initialization")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndBackgroundInitialization() throws Exception {
+        converters = createBuiltInConverters();
+        registry = createBackgroundRegistry();
+    }
+
+    @Given("an exception converter registry with built-in converters and stackless target exceptions")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndStacklessTargetExceptions() throws Exception {
+        converters = List.of(new ConnectExceptionConverter(), new SecurityExceptionConverter(),
+                new UnsupportedOperationExceptionConverter());
+
+        var properties = new ExceptionConverterProperties();
+        properties.getStackless().setEnabled(true);
+        registry = new ExceptionConverterRegistry(converters, properties);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with a stackless converter whose target exception class is final")
+    public void anExceptionConverterRegistryWithAStacklessConverterWhoseTargetExceptionClassIsFinal() {
+        converters = List.of(new FinalTargetExceptionConverter());
+
+        var properties = new ExceptionConverterProperties();
+        properties.getStackless().getTargetClasses().add(FinalBusinessException.class);
+        registry = new ExceptionConverterRegistry(converters, properties);
+    }
+
+    @Given("an exception converter registry with a stackless converter whose final target exception class accepts "
+            + "writableStackTrace")
+    public void anExceptionConverterRegistryWithAStacklessConverterWhoseFinalTargetExceptionClassAcceptsStackTraceFlag()
+            throws Exception {
+        converters = List.of(new WritableStackTraceTargetExceptionConverter());
+
+        var properties = new ExceptionConverterProperties();
+        properties.getStackless().getTargetClasses().add(WritableStackTraceBusinessException.class);
+        registry = new ExceptionConverterRegistry(converters, properties);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with built-in converters")
+    public void anExceptionConverterRegistryWithBuiltInConverters() throws Exception {
+        converters = createBuiltInConverters();
+        registry = new ExceptionConverterRegistry(converters);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with built-in converters and pre-population of package {string}")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndPrePopulationOfPackage(String packageName)
+            throws Exception {
+        converters = createBuiltInConverters();
+
+        var properties = new ExceptionConverterProperties();
+        properties.getPrepopulation().getPackages().add(packageName);
+        registry = new ExceptionConverterRegistry(converters, properties);
+    }
+
+    @Given("an exception converter registry with built-in converters, Micrometer meters and pre-population of package "
+            + "{string}")
+    public void anExceptionConverterRegistryWithBuiltInConvertersMicrometerMetersAndPrePopulationOfPackage(
+            String packageName) throws Exception {
+        converters = createBuiltInConverters();
+        meterRegistry = new SimpleMeterRegistry();
+
+        var properties = new ExceptionConverterProperties();
+        properties.getPrepopulation().getPackages().add(packageName);
+        registry = new ExceptionConverterRegistry(converters, properties,
+                new MicrometerExceptionConverterObserver(meterRegistry, new TestErrorCodeMapper()));
+    }
+
+    @Given("an exception converter registry with built-in converters and an exception class profile")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndAnExceptionClassProfile() throws Exception {
+        converters = createBuiltInConverters();
+        profileFile = Files.createTempDirectory("exception-converter").resolve("profile.txt");
+        registry = createProfiledRegistry();
+    }
+
+    @Given("an exception converter registry with built-in converters and an exception class profile listing {string}")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndAnExceptionClassProfileListing(String classNames)
+            throws Exception {
+        anExceptionConverterRegistryWithBuiltInConvertersAndAnExceptionClassProfile();
+        Files.write(profileFile, Arrays.stream(classNames.split(",")).map(String::strip).toList());
+    }
+
+    @Given("an exception converter registry with built-in converters, lookup mode {string} and weak cache keys")
+    public void anExceptionConverterRegistryWithBuiltInConvertersLookupModeAndWeakCacheKeys(String lookupMode)
+            throws Exception {
+        converters = createBuiltInConverters();
+
+        var properties = new ExceptionConverterProperties();
+        properties.setLookupMode(ExceptionConverterProperties.LookupMode.valueOf(lookupMode));
+        properties.setWeakCacheKeys(true);
+        registry = new ExceptionConverterRegistry(converters, properties);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with built-in converters and HTTP client converters")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndHttpClientConverters() throws Exception {
+        var errorCodeMapper = new TestErrorCodeMapper();
+        converters = new ArrayList<>(createBuiltInConverters());
+        converters.add(new FeignExceptionConverter(errorCodeMapper));
+        converters.add(new RestClientResponseExceptionConverter(errorCodeMapper));
+        converters.add(new WebClientResponseExceptionConverter(errorCodeMapper));
+        registry = new ExceptionConverterRegistry(converters);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with HTTP client converters and Micrometer meters")
+    public void anExceptionConverterRegistryWithHttpClientConvertersAndMicrometerMeters() throws Exception {
+        var errorCodeMapper = new TestErrorCodeMapper();
+        meterRegistry = new SimpleMeterRegistry();
+
+        converters = List.of(new FeignExceptionConverter(errorCodeMapper));
+        registry = new ExceptionConverterRegistry(converters, new ExceptionConverterProperties(),
+                new MicrometerExceptionConverterObserver(meterRegistry, errorCodeMapper));
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with HTTP client converters and stackless target exceptions")
+    public void anExceptionConverterRegistryWithHttpClientConvertersAndStacklessTargetExceptions() throws Exception {
+        var errorCodeMapper = new TestErrorCodeMapper();
+        var properties = new ExceptionConverterProperties();
+        properties.getStackless().setEnabled(true);
+
+        converters = List.of(new FeignExceptionConverter(errorCodeMapper, properties.getStackless()),
+                new RestClientResponseExceptionConverter(errorCodeMapper, properties.getStackless()),
+                new WebClientResponseExceptionConverter(errorCodeMapper, properties.getStackless()));
+        registry = new ExceptionConverterRegistry(converters, properties);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception converter registry with HTTP client converters whose target exception can't be created")
+    public void anExceptionConverterRegistryWithHttpClientConvertersWhoseTargetExceptionCantBeCreated()
+            throws Exception {
+        var errorCodeMapper = new TestErrorCodeMapper(new TestErrorCodeRegistry(errorCode ->
+                (errorCode == TestErrorCode.CONFLICT)
+                        ? UncreatableConflictException.class
+                        : errorCode.getExceptionClass()));
+
+        converters = List.of(new FeignExceptionConverter(errorCodeMapper));
+        registry = new ExceptionConverterRegistry(converters);
+        theRegistryIsInitialized();
+    }
+
+    @Given("an exception resolver with built-in converters")
+    public void anExceptionResolverWithBuiltInConverters() throws Exception {
+        converters = createBuiltInConverters();
+        registry = new ExceptionConverterRegistry(converters);
+        theRegistryIsInitialized();
+        exceptionResolver = new ExceptionResolver<>(registry,
+                new FieldErrorDiscovererVisitor(new FieldErrorMapper()), new TestErrorCodeMapper());
+    }
+
+    @Given("an exception resolver with an error code mapper treating causes with message {string} as CONFLICT")
+    public void anExceptionResolverWithAnErrorCodeMapperTreatingCausesWithMessageAsConflict(String message)
+            throws Exception {
+        converters = createBuiltInConverters();
+        registry = new ExceptionConverterRegistry(converters);
+        theRegistryIsInitialized();
+
+        var errorCodeMapper = new TestErrorCodeMapper() {
+            @Override
+            public TestErrorCode toErrorCode(BusinessException e) {
+                return ((e != null) && (e.getCause() != null) && message.equals(e.getCause().getMessage()))
+                        ? TestErrorCode.CONFLICT
+                        : super.toErrorCode(e);
+            }
+        };
+
+        exceptionResolver = new ExceptionResolver<>(registry,
+                new FieldErrorDiscovererVisitor(new FieldErrorMapper()), errorCodeMapper);
+    }
+
+    @Given("an exception converter registry with built-in converters and Micrometer meters")
+    public void anExceptionConverterRegistryWithBuiltInConvertersAndMicrometerMeters() throws Exception {
+        converters = createBuiltInConverters();
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new ExceptionConverterRegistry(converters, new ExceptionConverterProperties(),
+                new MicrometerExceptionConverterObserver(meterRegistry, new TestErrorCodeMapper()));
+        theRegistryIsInitialized();
+    }
+
+    @Given("exception converter registries with built-in converters in all lookup modes")
+    public void exceptionConverterRegistriesWithBuiltInConvertersInAllLookupModes() throws Exception {
+        converters = createBuiltInConverters();
+        lookupModeRegistries = new EnumMap<>(ExceptionConverterProperties.LookupMode.class);
+
+        for (var lookupMode : ExceptionConverterProperties.LookupMode.values()) {
+            var properties = new ExceptionConverterProperties();
+            properties.setLookupMode(lookupMode);
+
+            var lookupModeRegistry = new ExceptionConverterRegistry(converters, properties);
+            initRegistry(lookupModeRegistry);
+            lookupModeRegistries.put(lookupMode, lookupModeRegistry);
+
+            assertThat(lookupModeRegistry.getLookupMode())
+                    .as("effective lookup mode")
+                    .isEqualTo(lookupMode);
+        }
+    }
+
+    @Given("an exception converter registry in dispatcher lookup mode with a converter for a private exception class")
+    public void anExceptionConverterRegistryInDispatcherLookupModeWithAConverterForAPrivateExceptionClass()
+            throws Exception {
+        converters = List.of(new TestExceptionConverter<>(PrivateException.class),
+                new TestExceptionConverter<>(IllegalArgumentException.class));
+
+        var properties = new ExceptionConverterProperties();
+        properties.setLookupMode(ExceptionConverterProperties.LookupMode.DISPATCHER);
+        registry = new ExceptionConverterRegistry(converters, properties);
+        theRegistryIsInitialized();
+    }
+
     @When("a converter is requested for exception type {string}")
     public void aConverterIsRequestedForExceptionType(String exceptionType) throws Exception {
         Class<?> exceptionClass = Class.forName(exceptionType);
@@ -55,9 +381,11 @@ public class ExceptionConverterRegistrySteps {
 
     @When("the registry is initialized")
     public void theRegistryIsInitialized() throws Exception {
-        Method initMethod = registry.getClass().getDeclaredMethod("init");
-        initMethod.setAccessible(true);
-        initMethod.invoke(registry);
+        try {
+            initRegistry(registry);
+        } catch (InvocationTargetException e) {
+            initException = e.getCause();
+        }
     }
 
     @When("an exception of type {string} is converted")
@@ -70,6 +398,349 @@ public class ExceptionConverterRegistrySteps {
                 convertedBusinessException = throwableExceptionConverter.convert(testException));
     }
 
+    @When("an exception of type {string} is converted by each registry")
+    public void anExceptionOfTypeIsConvertedByEachRegistry(String exceptionType) throws Exception {
+        testException = (Throwable) Class.forName(exceptionType).getDeclaredConstructor().newInstance();
+        lookupModeResults = new EnumMap<>(ExceptionConverterProperties.LookupMode.class);
+
+        lookupModeRegistries.forEach((lookupMode, lookupModeRegistry) -> lookupModeRegistry
+                .findConverter(testException)
+                .ifPresent(converter -> lookupModeResults.put(lookupMode, converter.convert(testException))));
+    }
+
+    @When("exceptions {string} are converted in bulk sequentially")
+    public void exceptionsAreConvertedInBulkSequentially(String exceptions) throws Exception {
+        bulkExceptions = createExceptionChains(exceptions);
+        bulkResults = registry.convertAll(bulkExceptions);
+    }
+
+    @When("exceptions {string} are converted in bulk in a fork-join pool")
+    public void exceptionsAreConvertedInBulkInAForkJoinPool(String exceptions) throws Exception {
+        bulkExceptions = createExceptionChains(exceptions);
+
+        try (var pool = new ForkJoinPool(4)) {
+            bulkResults = registry.convertAll(bulkExceptions, pool);
+        }
+    }
+
+    @When("the registry is shut down")
+    public void theRegistryIsShutDown() throws Exception {
+        Method destroyMethod = registry.getClass().getDeclaredMethod("destroy");
+        destroyMethod.setAccessible(true);
+        destroyMethod.invoke(registry);
+    }
+
+    @When("the registry is restarted with the same exception class profile")
+    public void theRegistryIsRestartedWithTheSameExceptionClassProfile() throws Exception {
+        registry = createProfiledRegistry();
+        theRegistryIsInitialized();
+    }
+
+    @When("a plugin converter blocking in verification is being registered")
+    public void aPluginConverterBlockingInVerificationIsBeingRegistered() throws Exception {
+        pluginConverter = new PluginExceptionConverter(new CountDownLatch(1));
+        pendingUpdate = CompletableFuture.runAsync(() -> registry.registerConverters(List.of(pluginConverter)));
+
+        assertThat(pluginConverter.invoked.await(1, TimeUnit.MINUTES))
+                .as("plugin converter invoked during verification")
+                .isTrue();
+    }
+
+    @When("the plugin converter is released")
+    public void thePluginConverterIsReleased() throws Exception {
+        pluginConverter.release.countDown();
+        pendingUpdate.get(1, TimeUnit.MINUTES);
+    }
+
+    @When("a plugin converter is registered and unregistered {int} times while {int} threads convert exceptions")
+    public void aPluginConverterIsRegisteredAndUnregisteredTimesWhileThreadsConvertExceptions(int updates,
+            int threads) throws Exception {
+        pluginConverter = new PluginExceptionConverter(null);
+        readerFailures = new ConcurrentLinkedQueue<>();
+        var stop = new AtomicBoolean();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> readers = IntStream.range(0, threads)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        while (!stop.get()) {
+                            convertAndCheck(new IllegalArgumentException(), BadRequestException.class, false);
+                            // the plugin converter comes and goes
+                            convertAndCheck(new PluginException(), ConflictException.class, true);
+                        }
+                    }))
+                    .toList();
+
+            for (int i = 0; i < updates; i++) {
+                registry.registerConverters(List.of(pluginConverter));
+                registry.unregisterConverters(List.of(pluginConverter));
+            }
+
+            stop.set(true);
+
+            for (Future<?> reader : readers) {
+                reader.get(1, TimeUnit.MINUTES);
+            }
+        }
+    }
+
+    @When("an exception loaded by a throwaway class loader is converted to {string}")
+    public void anExceptionLoadedByAThrowawayClassLoaderIsConvertedTo(String resultType) throws Exception {
+        Path classDirectory = Files.createTempDirectory("exception-converter");
+        Path classFile = classDirectory.resolve("throwaway/ThrowawayException.class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, generateExceptionClass("throwaway/ThrowawayException", IllegalArgumentException.class));
+
+        // nothing must refer to the class loader, its class, or the exception after this call
+        throwawayClassLoader = convertWithThrowawayClassLoader(classDirectory, Class.forName(resultType));
+    }
+
+    @When("exceptions of types {string} are converted one by one")
+    public void exceptionsOfTypesAreConvertedOneByOne(String exceptionTypes) throws Exception {
+        for (String exceptionType : exceptionTypes.split(",")) {
+            anExceptionOfTypeIsConverted(exceptionType.strip());
+        }
+    }
+
+    @When("exceptions of types {string} are converted while JFR is recording")
+    public void exceptionsOfTypesAreConvertedWhileJfrIsRecording(String exceptionTypes) throws Exception {
+        try (var recording = new Recording()) {
+            recording.enable(JFR_EVENT_PREFIX + "ExceptionConversion");
+            recording.enable(JFR_EVENT_PREFIX + "ConverterLookupMiss");
+            convertWhileRecording(recording, exceptionTypes);
+        }
+    }
+
+    @When("exceptions of types {string} are converted while JFR is recording with default settings")
+    public void exceptionsOfTypesAreConvertedWhileJfrIsRecordingWithDefaultSettings(String exceptionTypes)
+            throws Exception {
+        try (var recording = new Recording(Configuration.getConfiguration("default"))) {
+            convertWhileRecording(recording, exceptionTypes);
+        }
+    }
+
+    private void convertWhileRecording(Recording recording, String exceptionTypes) throws Exception {
+        Path file = Files.createTempFile("exception-converter", ".jfr");
+
+        try {
+            recording.start();
+
+            for (String exceptionType : exceptionTypes.split(",")) {
+                testException = (Throwable) Class.forName(exceptionType.strip())
+                        .getDeclaredConstructor()
+                        .newInstance();
+                registry.convert(testException);
+            }
+
+            recording.stop();
+            recording.dump(file);
+            recordedEvents = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @When("a {string} exception with HTTP status {int} is converted")
+    public void anExceptionWithHttpStatusIsConverted(String client, int status) {
+        testException = createHttpClientException(client, status);
+        convertedBusinessException = registry.convert(testException).orElse(null);
+    }
+
+    @When("a {string} exception with HTTP status {int} fails to be converted")
+    public void anExceptionWithHttpStatusFailsToBeConverted(String client, int status) {
+        testException = createHttpClientException(client, status);
+
+        try {
+            registry.convert(testException);
+        } catch (IllegalStateException e) {
+            conversionException = e;
+        }
+    }
+
+    @When("a converter for an already converted exception class is registered")
+    public void aConverterForAnAlreadyConvertedExceptionClassIsRegistered() {
+        try {
+            registry.registerConverters(List.of(new IllegalArgumentExceptionConverter()));
+        } catch (IllegalStateException e) {
+            updateException = e;
+        }
+    }
+
+    @When("an exception of the private class is converted")
+    public void anExceptionOfThePrivateClassIsConverted() {
+        testException = new PrivateException();
+        foundConverter = registry.findConverter(testException);
+        foundConverter.ifPresent(converter -> convertedBusinessException = converter.convert(testException));
+    }
+
+    @Then("registry initialization should fail with message containing {string}")
+    public void registryInitializationShouldFailWithMessageContaining(String message) {
+        assertThat(initException)
+                .as("initException")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(message);
+    }
+
+    @Then("registry initialization result should be {string}")
+    public void registryInitializationResultShouldBe(String result) {
+        if ("success".equals(result)) {
+            assertThat(initException)
+                    .as("initException")
+                    .isNull();
+        } else {
+            registryInitializationShouldFailWithMessageContaining(result);
+        }
+    }
+
+    @Then("the converted exception should be a subclass of {string} without stack trace")
+    public void theConvertedExceptionShouldBeASubclassOfWithoutStackTrace(String className) throws Exception {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+
+        assertThat(convertedBusinessException)
+                .as("convertedBusinessException")
+                .isInstanceOf(Class.forName(className))
+                .hasCause(testException);
+
+        assertThat(convertedBusinessException.getStackTrace())
+                .as("convertedBusinessException.stackTrace")
+                .isEmpty();
+    }
+
+    @Then("the converted exception should be exactly of class {string} without stack trace")
+    public void theConvertedExceptionShouldBeExactlyOfClassWithoutStackTrace(String className) throws Exception {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+
+        assertThat(convertedBusinessException)
+                .as("convertedBusinessException")
+                .isExactlyInstanceOf(Class.forName(className))
+                .hasMessage(testException.toString())
+                .hasCause(testException);
+
+        assertThat(convertedBusinessException.getStackTrace())
+                .as("convertedBusinessException.stackTrace")
+                .isEmpty();
+    }
+
+    @Then("conversion should fail with message {string} caused by {string}")
+    public void conversionShouldFailWithMessageCausedBy(String message, String causeMessage) {
+        assertThat(conversionException)
+                .as("conversionException")
+                .hasMessage(message)
+                .hasRootCauseMessage(causeMessage);
+    }
+
+    @Then("each registry should convert it to {string}")
+    public void eachRegistryShouldConvertItTo(String className) throws Exception {
+        if ("none".equals(className)) {
+            assertThat(lookupModeResults)
+                    .as("lookupModeResults")
+                    .isEmpty();
+            return;
+        }
+
+        assertThat(lookupModeResults)
+                .as("lookupModeResults")
+                .containsOnlyKeys(ExceptionConverterProperties.LookupMode.values());
+
+        for (var result : lookupModeResults.entrySet()) {
+            assertThat(result.getValue())
+                    .as("result in " + result.getKey() + " mode")
+                    .isExactlyInstanceOf(Class.forName(className))
+                    .hasCause(testException);
+        }
+    }
+
+    @Then("bulk conversion results should be {string}")
+    public void bulkConversionResultsShouldBe(String results) {
+        assertThat(bulkResults)
+                .as("bulkResults")
+                .extracting(result -> result.map(e -> e.getClass().getSimpleName()).orElse("none"))
+                .containsExactly(results.split(",\\s*"));
+    }
+
+    @Then("bulk conversion results should be the same as converting each exception chain separately")
+    public void bulkConversionResultsShouldBeTheSameAsConvertingEachExceptionChainSeparately() {
+        var visitor = new ExceptionConverterFinderVisitor(registry);
+
+        for (int i = 0; i < bulkExceptions.size(); i++) {
+            Throwable t = bulkExceptions.get(i);
+            Optional<BusinessException> expected = (t == null)
+                    ? Optional.empty()
+                    : new SubclassBeforeSuperclassExceptionIterator(t).acceptUntilResult(visitor);
+
+            assertThat(bulkResults.get(i).map(Object::getClass))
+                    .as("bulkResults[" + i + "].class")
+                    .isEqualTo(expected.map(Object::getClass));
+            assertThat(bulkResults.get(i).map(Throwable::getCause))
+                    .as("bulkResults[" + i + "].cause")
+                    .isEqualTo(expected.map(Throwable::getCause));
+        }
+    }
+
+    @Then("bulk conversion results should be paired with error codes {string}")
+    public void bulkConversionResultsShouldBePairedWithErrorCodes(String errorCodes) {
+        var mapper = new TestErrorCodeMapper();
+        List<ConvertedException<TestErrorCode>> convertedExceptions = mapper.toConvertedExceptions(bulkResults);
+
+        assertThat(convertedExceptions)
+                .as("convertedExceptions")
+                .extracting(ConvertedException::getErrorCode)
+                .containsExactly(Arrays.stream(errorCodes.split(",\\s*"))
+                        .map(TestErrorCode::valueOf)
+                        .toArray(TestErrorCode[]::new));
+
+        for (int i = 0; i < convertedExceptions.size(); i++) {
+            ConvertedException<TestErrorCode> convertedException = convertedExceptions.get(i);
+
+            assertThat(convertedException.getException())
+                    .as("convertedExceptions[" + i + "].exception")
+                    .isEqualTo(bulkResults.get(i).orElse(null));
+            assertThat(convertedException.getHttpStatus())
+                    .as("convertedExceptions[" + i + "].httpStatus")
+                    .isEqualTo(mapper.toHttpStatus(convertedException.getErrorCode()));
+        }
+    }
+
+    @Then("pre-population should look up converters for at least {int} exception classes")
+    public void prePopulationShouldLookUpConvertersForAtLeastExceptionClasses(int count) throws Exception {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+        assertThat(registry.getPrepopulation().get(1, TimeUnit.MINUTES))
+                .as("pre-populated exception classes")
+                .isGreaterThanOrEqualTo(count);
+    }
+
+    @Then("pre-population should look up converters for exactly {int} exception classes")
+    public void prePopulationShouldLookUpConvertersForExactlyExceptionClasses(int count) throws Exception {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+        assertThat(registry.getPrepopulation().get(1, TimeUnit.MINUTES))
+                .as("pre-populated exception classes")
+                .isEqualTo(count);
+    }
+
+    @Then("the exception class profile should list {string}")
+    public void theExceptionClassProfileShouldList(String classNames) throws Exception {
+        assertThat(Files.readAllLines(profileFile))
+                .as("profile file lines")
+                .containsExactlyElementsOf(Arrays.stream(classNames.split(",")).map(String::strip).toList());
+    }
+
+    @Then("the registry lookup mode should be {string}")
+    public void theRegistryLookupModeShouldBe(String lookupMode) {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+        assertThat(registry.getLookupMode())
+                .as("registry.lookupMode")
+                .isEqualTo(ExceptionConverterProperties.LookupMode.valueOf(lookupMode));
+    }
+
     @Then("no converter should be found")
     public void noConverterShouldBeFound() {
         assertThat(foundConverter)
@@ -91,6 +762,304 @@ public class ExceptionConverterRegistrySteps {
                 .isNotNull();
     }
 
+    @Then("registry initialization should complete")
+    public void registryInitializationShouldComplete() throws Exception {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+
+        registry.getInitialization().get(1, TimeUnit.MINUTES);
+        assertThat(registry.getInitialization())
+                .as("registry.initialization")
+                .isCompleted();
+    }
+
+    @Then("looking up a converter for exception type {string} should fail with message containing {string}")
+    public void lookingUpAConverterForExceptionTypeShouldFailWithMessageContaining(String exceptionType,
+            String message) {
+        assertThat(initException)
+                .as("initException")
+                .isNull();
+        assertThatThrownBy(() -> aConverterIsRequestedForExceptionType(exceptionType))
+                .as("lookup error")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(message);
+    }
+
+    @Then("{int} threads should convert {string} to {string} {int} times each meanwhile")
+    public void threadsShouldConvertToTimesEachMeanwhile(int threads, String exceptionType, String resultType,
+            int iterations) throws Exception {
+        readerFailures = new ConcurrentLinkedQueue<>();
+        Class<?> exceptionClass = Class.forName(exceptionType);
+        Class<?> resultClass = Class.forName(resultType);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> readers = IntStream.range(0, threads)
+                    .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                        for (int j = 0; j < iterations; j++) {
+                            var exception = (Throwable) exceptionClass.getDeclaredConstructor().newInstance();
+                            convertAndCheck(exception, resultClass, false);
+                        }
+
+                        return null;
+                    }))
+                    .toList();
+
+            // readers must not wait for the pending update
+            for (Future<?> reader : readers) {
+                reader.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(pendingUpdate)
+                .as("pending update")
+                .isNotDone();
+        noReaderShouldHaveFailed();
+    }
+
+    @Then("the throwaway class loader should be unloaded")
+    public void theThrowawayClassLoaderShouldBeUnloaded() throws Exception {
+        for (int i = 0; (i < 50) && (throwawayClassLoader.get() != null); i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertThat(throwawayClassLoader.get())
+                .as("throwaway class loader")
+                .isNull();
+    }
+
+    @Then("meter {string} tagged {string} should measure {double}")
+    public void meterTaggedShouldMeasure(String name, String tags, double value) {
+        String[] keyValues = Arrays.stream(tags.split("[,=]"))
+                .map(String::strip)
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+        Meter meter = meterRegistry.get(name)
+                .tags(keyValues)
+                .meter();
+
+        // first measurement is the count for timers
+        assertThat(meter.measure().iterator().next().getValue())
+                .as(name + " " + tags)
+                .isEqualTo(value);
+    }
+
+    @Then("JFR should have recorded {int} {string} events, {int} of them being cache hits")
+    public void jfrShouldHaveRecordedEventsOfThemBeingCacheHits(int count, String eventName, int cacheHits) {
+        List<RecordedEvent> events = findRecordedEvents(eventName);
+        assertThat(events)
+                .as("recorded events")
+                .hasSize(count)
+                .allSatisfy(event -> assertThat(event.getClass("sourceClass"))
+                        .as("source class")
+                        .isNotNull());
+        assertThat(events)
+                .as("recorded cache hits")
+                .filteredOn(event -> event.getBoolean("cacheHit"))
+                .hasSize(cacheHits);
+    }
+
+    @Then("JFR should have recorded {int} {string} events")
+    public void jfrShouldHaveRecordedEvents(int count, String eventName) {
+        assertThat(findRecordedEvents(eventName))
+                .as("recorded events")
+                .hasSize(count);
+    }
+
+    @Then("no reader should have failed")
+    public void noReaderShouldHaveFailed() {
+        assertThat(readerFailures)
+                .as("reader failures")
+                .isEmpty();
+    }
+
+    @Then("the registry epoch should be {int}")
+    public void theRegistryEpochShouldBe(int epoch) {
+        assertThat(registry.getEpoch())
+                .as("registry.epoch")
+                .isEqualTo(epoch);
+    }
+
+    @Then("the registry update should fail with message containing {string}")
+    public void theRegistryUpdateShouldFailWithMessageContaining(String message) {
+        assertThat(updateException)
+                .as("updateException")
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(message);
+    }
+
+    @When("a {string} exception wrapped in RuntimeException is resolved")
+    public void anExceptionWrappedInRuntimeExceptionIsResolved(String exceptionType) {
+        Throwable cause = switch (exceptionType) {
+            case "BindException" -> {
+                var bindException = new BindException(new Object(), "request");
+                bindException.addError(new FieldError("request", "user.email", "", false,
+                        new String[]{"Email"}, null, "must be a well-formed email address"));
+                yield bindException;
+            }
+            case "IllegalArgumentException" -> new IllegalArgumentException("Invalid argument");
+            case "IllegalStateException" -> new IllegalStateException("Invalid state");
+            case "Exception" -> new Exception("Something went wrong");
+            default -> throw new IllegalArgumentException("Unknown exception type: " + exceptionType);
+        };
+
+        testException = new RuntimeException("Wrapper", cause);
+        resolution = exceptionResolver.resolve(testException);
+    }
+
+    @When("an IllegalArgumentException with message {string} wrapped in RuntimeException is resolved")
+    public void anIllegalArgumentExceptionWithMessageWrappedInRuntimeExceptionIsResolved(String message) {
+        testException = new RuntimeException("Wrapper", new IllegalArgumentException(message));
+        resolution = exceptionResolver.resolve(testException);
+    }
+
+    @Then("the resolution should be the same as applying visitors and error code mapper separately")
+    public void theResolutionShouldBeTheSameAsApplyingVisitorsAndErrorCodeMapperSeparately() {
+        Optional<BusinessException> expectedException = new SubclassBeforeSuperclassExceptionIterator(testException)
+                .acceptUntilResult(new ExceptionConverterFinderVisitor(registry));
+        List<FieldErrorDto> expectedFieldErrors = new SubclassBeforeSuperclassExceptionIterator(testException)
+                .acceptUntilResult(new FieldErrorDiscovererVisitor(new FieldErrorMapper()))
+                .orElse(List.of());
+        var mapper = new TestErrorCodeMapper();
+
+        assertThat(Optional.ofNullable(resolution.getException()).map(Object::getClass))
+                .as("resolution.exception.class")
+                .isEqualTo(expectedException.map(Object::getClass));
+        assertThat(Optional.ofNullable(resolution.getException()).map(Throwable::getCause))
+                .as("resolution.exception.cause")
+                .isEqualTo(expectedException.map(Throwable::getCause));
+        assertThat(resolution.getFieldErrors())
+                .as("resolution.fieldErrors")
+                .isEqualTo(expectedFieldErrors);
+        assertThat(resolution.getErrorCode())
+                .as("resolution.errorCode")
+                .isEqualTo(mapper.toErrorCode(expectedException.orElse(null)));
+        assertThat(resolution.getHttpStatus())
+                .as("resolution.httpStatus")
+                .isEqualTo(mapper.toHttpStatus(expectedException.orElse(null)));
+    }
+
+    @Then("the resolved error code should be {string} and field errors should be {string}")
+    public void theResolvedErrorCodeShouldBeAndFieldErrorsShouldBe(String errorCode, String fieldNames) {
+        assertThat(resolution.getErrorCode())
+                .as("resolution.errorCode")
+                .isEqualTo(TestErrorCode.valueOf(errorCode));
+        assertThat(resolution.getFieldErrors())
+                .as("resolution.fieldErrors")
+                .extracting(FieldErrorDto::fieldName)
+                .containsExactly(Arrays.stream(fieldNames.split(","))
+                        .map(String::strip)
+                        .filter(fieldName -> !fieldName.isEmpty())
+                        .toArray(String[]::new));
+        assertThatThrownBy(() -> resolution.getFieldErrors().clear())
+                .as("resolution.fieldErrors.clear()")
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Then("precomputed HTTP statuses and exception classes of all error codes should match closest superclass lookups")
+    public void precomputedHttpStatusesAndExceptionClassesOfAllErrorCodesShouldMatchClosestSuperclassLookups() {
+        var mapper = new TestErrorCodeMapper();
+        ErrorCodeRegistry<TestErrorCode> errorCodeRegistry = mapper.getErrorCodeRegistry();
+
+        for (TestErrorCode errorCode : TestErrorCode.values()) {
+            HttpStatus expectedHttpStatus = findValueOfClosestSuperclass(
+                    errorCodeRegistry.getExceptionClassToHttpStatusView(), errorCode.getExceptionClass());
+
+            assertThat(errorCodeRegistry.getExceptionClass(errorCode))
+                    .as(errorCode + ".exceptionClass")
+                    .isEqualTo(errorCode.getExceptionClass());
+            assertThat(errorCodeRegistry.getHttpStatus(errorCode))
+                    .as(errorCode + ".httpStatus")
+                    .isEqualTo(expectedHttpStatus);
+            assertThat(mapper.toHttpStatus(errorCode))
+                    .as("toHttpStatus(" + errorCode + ")")
+                    .isEqualTo((expectedHttpStatus == null) ? mapper.getDefaultHttpStatus() : expectedHttpStatus);
+        }
+
+        assertThat(mapper.toHttpStatus((TestErrorCode) null))
+                .as("toHttpStatus(null)")
+                .isEqualTo(mapper.getDefaultHttpStatus());
+    }
+
+    @Then("cached error codes and HTTP statuses of exception classes should match closest superclass lookups")
+    public void cachedErrorCodesAndHttpStatusesOfExceptionClassesShouldMatchClosestSuperclassLookups() {
+        var mapper = new TestErrorCodeMapper();
+        ErrorCodeRegistry<TestErrorCode> errorCodeRegistry = mapper.getErrorCodeRegistry();
+        // registered classes, unregistered subclasses of them, and a class outside of registered hierarchy
+        List<Class<? extends BusinessException>> exceptionClasses = List.of(BadRequestException.class,
+                ConflictException.class, UnauthorizedException.class, BusinessException.class,
+                TestBusinessException.class, FinalBusinessException.class, NotFoundException.class);
+
+        // repeated lookups come from cache
+        for (int attempt = 0; attempt < 2; attempt++) {
+            for (Class<? extends BusinessException> exceptionClass : exceptionClasses) {
+                TestErrorCode expectedErrorCode = findValueOfClosestSuperclass(
+                        errorCodeRegistry.getExceptionClassToErrorCodeView(), exceptionClass);
+                HttpStatus expectedHttpStatus = findValueOfClosestSuperclass(
+                        errorCodeRegistry.getExceptionClassToHttpStatusView(), exceptionClass);
+
+                assertThat(errorCodeRegistry.getErrorCode(exceptionClass))
+                        .as(exceptionClass.getSimpleName() + ".errorCode")
+                        .isEqualTo(expectedErrorCode);
+                assertThat(errorCodeRegistry.getHttpStatus(exceptionClass))
+                        .as(exceptionClass.getSimpleName() + ".httpStatus")
+                        .isEqualTo(expectedHttpStatus);
+            }
+        }
+
+        assertThat(mapper.toErrorCode(new TestBusinessException(new RuntimeException("Test"))))
+                .as("toErrorCode(TestBusinessException)")
+                .isEqualTo(TestErrorCode.INTERNAL_ERROR);
+        assertThat(mapper.toErrorCode((BusinessException) null))
+                .as("toErrorCode(null)")
+                .isEqualTo(mapper.getDefaultErrorCode());
+        assertThat(mapper.toHttpStatus((BusinessException) null))
+                .as("toHttpStatus(null)")
+                .isEqualTo(mapper.getDefaultHttpStatus());
+
+        // cached values would go stale if registry maps could be modified
+        assertThatThrownBy(() -> errorCodeRegistry.getExceptionClassToErrorCodeView()
+                .put(NotFoundException.class, TestErrorCode.CONFLICT))
+                .as("exceptionClassToErrorCodeView.put()")
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> errorCodeRegistry.getExceptionClassToHttpStatusView().clear())
+                .as("exceptionClassToHttpStatusView.clear()")
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> errorCodeRegistry.getHttpStatusToErrorCode().clear())
+                .as("httpStatusToErrorCode.clear()")
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Then("resolving the same exception again should give the same error code and HTTP status")
+    public void resolvingTheSameExceptionAgainShouldGiveTheSameErrorCodeAndHttpStatus() {
+        ExceptionResolution<TestErrorCode> repeatedResolution = exceptionResolver.resolve(testException);
+
+        assertThat(repeatedResolution.getErrorCode())
+                .as("repeatedResolution.errorCode")
+                .isEqualTo(resolution.getErrorCode());
+        assertThat(repeatedResolution.getHttpStatus())
+                .as("repeatedResolution.httpStatus")
+                .isEqualTo(resolution.getHttpStatus());
+    }
+
+    @Then("the converted exception class should be {string}")
+    public void theConvertedExceptionClassShouldBe(String resultType) throws Exception {
+        assertThat(convertedBusinessException)
+                .as("convertedBusinessException")
+                .isExactlyInstanceOf(Class.forName(resultType));
+        assertThat(convertedBusinessException.getCause())
+                .as("convertedBusinessException.cause")
+                .isSameAs(testException);
+    }
+
+    @Then("the converted exception should be an instance of {string}")
+    public void theConvertedExceptionShouldBeAnInstanceOf(String resultType) throws Exception {
+        assertThat(convertedBusinessException)
+                .as("convertedBusinessException")
+                .isInstanceOf(Class.forName(resultType));
+    }
+
     @Then("the result should be a business exception")
     public void theResultShouldBeABusinessException() {
         assertThat(convertedBusinessException)
@@ -99,6 +1068,26 @@ public class ExceptionConverterRegistrySteps {
                 .isInstanceOf(BusinessException.class);
     }
 
+    @Then("converter descriptors should have source classes {string}")
+    public void converterDescriptorsShouldHaveSourceClasses(String commaSeparatedClassNames) {
+        var expectedClassNames = Arrays.stream(commaSeparatedClassNames.split(","))
+                .map(String::strip)
+                .toList();
+
+        assertThat(registry.getConverterDescriptors().values())
+                .as("converterDescriptors")
+                .extracting(descriptor -> descriptor.getSourceClass().getName())
+                .containsExactlyElementsOf(expectedClassNames);
+    }
+
+    @Then("each converter descriptor should have a target class")
+    public void eachConverterDescriptorShouldHaveATargetClass() {
+        assertThat(registry.getConverterDescriptors().values())
+                .as("converterDescriptors")
+                .extracting(descriptor -> descriptor.getTargetClass().getName())
+                .containsOnly(TestBusinessException.class.getName());
+    }
+
     @Then("a converter should be found")
     public void aConverterShouldOrShouldNotBeFound() {
         assertThat(foundConverter)
@@ -113,6 +1102,192 @@ public class ExceptionConverterRegistrySteps {
                 .isEmpty();
     }
 
+    /**
+     * Creates exception chains out of comma-separated specs: {@code A > B} means {@code A} caused by {@code B},
+     * {@code null} means {@code null}.
+     *
+     * @param specs comma-separated chain specs
+     * @return exception chains
+     */
+    private List<Throwable> createExceptionChains(String specs) throws Exception {
+        List<Throwable> chains = new ArrayList<>();
+
+        for (String spec : specs.split(",\\s*")) {
+            if ("null".equals(spec)) {
+                chains.add(null);
+                continue;
+            }
+
+            Throwable chain = null;
+            List<String> classNames = Arrays.asList(spec.split("\\s*>\\s*"));
+
+            // build from the innermost cause
+            for (int i = classNames.size() - 1; i >= 0; i--) {
+                var t = (Throwable) Class.forName(classNames.get(i)).getDeclaredConstructor().newInstance();
+
+                if (chain != null) {
+                    t.initCause(chain);
+                }
+
+                chain = t;
+            }
+
+            chains.add(chain);
+        }
+
+        return chains;
+    }
+
+    /**
+     * Instantiates all {@link BuiltInExceptionConverters} except for {@link HttpStatusExceptionConverter} subclasses,
+     * which need {@link ErrorCodeMapper}.
+     */
+    private List<ExceptionConverter<?, ?>> createBuiltInConverters() throws Exception {
+        List<ExceptionConverter<?, ?>> builtInConverters = new ArrayList<>();
+
+        for (var descriptor : BuiltInExceptionConverters.getDescriptors()) {
+            if (HttpStatusExceptionConverter.class.isAssignableFrom(descriptor.getConverterClass())) {
+                continue;
+            }
+
+            builtInConverters.add((ExceptionConverter<?, ?>) descriptor.getConverterClass()
+                    .getDeclaredConstructor()
+                    .newInstance());
+        }
+
+        return builtInConverters;
+    }
+
+    /**
+     * Converts exception and records unexpected results in {@link #readerFailures}.
+     *
+     * @param exception   exception to convert
+     * @param resultClass expected class of conversion result
+     * @param mayBeAbsent whether the converter may be missing
+     */
+    private void convertAndCheck(Throwable exception, Class<?> resultClass, boolean mayBeAbsent) {
+        try {
+            Optional<BusinessException> result = registry.findConverter(exception)
+                    .map(converter -> converter.convert(exception));
+
+            if (result.isEmpty() ? !mayBeAbsent : !resultClass.isInstance(result.get())) {
+                readerFailures.add(exception.getClass().getName() + " converted to " + result);
+            }
+        } catch (RuntimeException e) {
+            readerFailures.add(exception.getClass().getName() + " conversion failed: " + e);
+        }
+    }
+
+    /**
+     * Loads {@code throwaway.ThrowawayException} with a new class loader and converts its instance.
+     *
+     * @param classDirectory directory containing the class file
+     * @param resultClass    expected class of conversion result
+     * @return reference to the class loader, which is closed already
+     */
+    private WeakReference<ClassLoader> convertWithThrowawayClassLoader(Path classDirectory, Class<?> resultClass)
+            throws Exception {
+        try (var classLoader = new URLClassLoader(new URL[] {classDirectory.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var exception = (Throwable) classLoader.loadClass("throwaway.ThrowawayException")
+                    .getDeclaredConstructor()
+                    .newInstance();
+
+            assertThat(registry.findConverter(exception).map(converter -> converter.convert(exception)))
+                    .as("conversion result")
+                    .containsInstanceOf(resultClass);
+            return new WeakReference<>(classLoader);
+        }
+    }
+
+    private List<RecordedEvent> findRecordedEvents(String eventName) {
+        return recordedEvents.stream()
+                .filter(event -> event.getEventType().getName().equals(JFR_EVENT_PREFIX + eventName))
+                .toList();
+    }
+
+    private static Throwable createHttpClientException(String client, int status) {
+        return switch (client) {
+            case "Feign" -> new FeignException(status, "Downstream error") {
+            };
+            case "RestClient" -> new RestClientResponseException("Downstream error", status, "", null, null, null);
+            case "WebClient" -> WebClientResponseException.create(status, "", null, null, null);
+            default -> throw new IllegalArgumentException("Unknown client: " + client);
+        };
+    }
+
+    /**
+     * Finds value of the closest superclass of the given class by scanning the map, whose iteration order is subclass
+     * before superclass.
+     *
+     * @param map            map to scan
+     * @param exceptionClass exception class
+     * @return value, {@code null} if there's no such superclass
+     */
+    private static <V> V findValueOfClosestSuperclass(Map<Class<? extends BusinessException>, V> map,
+            Class<? extends BusinessException> exceptionClass) {
+        return map.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(exceptionClass))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Generates public exception class having the only constructor without arguments.
+     *
+     * @param internalName class name, with slashes instead of dots
+     * @param superclass   superclass
+     * @return class file content
+     */
+    private static byte[] generateExceptionClass(String internalName, Class<? extends Throwable> superclass) {
+        String superName = Type.getInternalName(superclass);
+
+        var classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        classWriter.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, superName, null);
+
+        MethodVisitor constructor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    private ExceptionConverter<?, ?> createConverter(String description) {
+        return switch (description) {
+            case "failing on invocation" -> new FailingExceptionConverter();
+            case "without target factory" -> new NoCauseConstructorExceptionConverter();
+            default -> throw new IllegalArgumentException("Unknown converter: " + description);
+        };
+    }
+
+    private ExceptionConverterRegistry createBackgroundRegistry() {
+        var properties = new ExceptionConverterProperties();
+        properties.setInitialization(ExceptionConverterProperties.Initialization.BACKGROUND);
+        return new ExceptionConverterRegistry(converters, properties);
+    }
+
+    private ExceptionConverterRegistry createProfiledRegistry() {
+        var properties = new ExceptionConverterProperties();
+        properties.getProfile().setFile(profileFile);
+        return new ExceptionConverterRegistry(converters, properties);
+    }
+
+    /**
+     * Calls private {@code init} method.
+     */
+    private void initRegistry(ExceptionConverterRegistry registryToInit) throws Exception {
+        Method initMethod = registryToInit.getClass().getDeclaredMethod("init");
+        initMethod.setAccessible(true);
+        initMethod.invoke(registryToInit);
+    }
+
     /**
      * Creates a list of test converters. The order (subclasses before superclasses) doesn't matter because
      * {@link ExceptionConverterRegistry} sorts them by their source classes.
@@ -171,4 +1346,186 @@ public class ExceptionConverterRegistrySteps {
 
     }
 
+    /**
+     * Exception which the generated dispatcher can't refer to.
+     */
+    private static class PrivateException extends RuntimeException {
+    }
+
+    /**
+     * Exception converted by {@link PluginExceptionConverter}.
+     */
+    public static class PluginException extends RuntimeException {
+
+        public PluginException() {
+        }
+
+        public PluginException(String message) {
+            super(message);
+        }
+
+    }
+
+    /**
+     * Converter registered at runtime. Optionally blocks when invoked (i.e. during verification) until released.
+     */
+    @RequiredArgsConstructor
+    private static class PluginExceptionConverter implements ExceptionConverter<PluginException, ConflictException> {
+
+        private final CountDownLatch invoked = new CountDownLatch(1);
+
+        @Nullable
+        private final CountDownLatch release;
+
+        @Override
+        public ConflictException convert(PluginException exception) {
+            invoked.countDown();
+
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            return new ConflictException(exception);
+        }
+
+    }
+
+    /**
+     * Converter failing on any exception.
+     */
+    private static class FailingExceptionConverter
+            implements ExceptionConverter<IllegalStateException, BadRequestException> {
+
+        @Override
+        public BadRequestException convert(IllegalStateException exception) {
+            throw new UnsupportedOperationException("Conversion failed");
+        }
+
+    }
+
+    /**
+     * Converter relying on default conversion whose target exception can't be created out of cause.
+     */
+    private static class NoCauseConstructorExceptionConverter
+            implements ExceptionConverter<IllegalStateException, NoCauseConstructorBusinessException> {
+    }
+
+    /**
+     * Business exception lacking constructor accepting cause.
+     */
+    private static class NoCauseConstructorBusinessException extends BusinessException {
+    }
+
+    /**
+     * Converter relying on default conversion whose target exception class can't be subclassed.
+     */
+    private static class FinalTargetExceptionConverter
+            implements ExceptionConverter<IllegalStateException, FinalBusinessException> {
+    }
+
+    /**
+     * Business exception which can't be subclassed.
+     */
+    private static final class FinalBusinessException extends BusinessException {
+
+        public FinalBusinessException(Throwable cause) {
+            super(cause);
+        }
+
+    }
+
+    /**
+     * Converter relying on default conversion whose target exception class can't be subclassed, but can be created
+     * without stack trace.
+     */
+    private static class WritableStackTraceTargetExceptionConverter
+            implements ExceptionConverter<IllegalArgumentException, WritableStackTraceBusinessException> {
+    }
+
+    /**
+     * Business exception which can't be subclassed, but declares constructor accepting {@code writableStackTrace}.
+     */
+    private static final class WritableStackTraceBusinessException extends BusinessException {
+
+        public WritableStackTraceBusinessException(Throwable cause) {
+            super(cause);
+        }
+
+        private WritableStackTraceBusinessException(String message, Throwable cause, boolean enableSuppression,
+                boolean writableStackTrace) {
+            super(message, cause);
+
+            if (!writableStackTrace) {
+                setStackTrace(new StackTraceElement[0]);
+            }
+        }
+
+    }
+
+    /**
+     * Error codes for testing {@link ErrorCodeMapper#toConvertedExceptions(List)}.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    private enum TestErrorCode {
+
+        BAD_REQUEST(BadRequestException.class),
+        CONFLICT(ConflictException.class),
+        NOT_IMPLEMENTED(NotImplementedException.class),
+        SERVICE_TIMEOUT(ServiceTimeoutException.class),
+        UNAUTHORIZED(UnauthorizedException.class),
+        INTERNAL_ERROR(BusinessException.class);
+
+        private final Class<? extends BusinessException> exceptionClass;
+
+    }
+
+    /**
+     * Annotated because the error code it replaces {@link ConflictException} for must still be mapped to this status.
+     */
+    @RootHttpStatus(HttpStatus.CONFLICT)
+    private static class UncreatableConflictException extends ConflictException {
+
+        public UncreatableConflictException(Throwable cause) {
+            super(cause);
+            throw new IllegalStateException("Conflict can't be created");
+        }
+
+    }
+
+    private static class TestErrorCodeRegistry extends ErrorCodeRegistry<TestErrorCode> {
+
+        TestErrorCodeRegistry() {
+            this(TestErrorCode::getExceptionClass);
+        }
+
+        TestErrorCodeRegistry(Function<TestErrorCode, Class<? extends BusinessException>> errorCodeToExceptionClass) {
+            super(errorCodeToExceptionClass);
+        }
+
+        @Override
+        protected Class<TestErrorCode> getErrorCodeClass() {
+            return TestErrorCode.class;
+        }
+
+    }
+
+    @RequiredArgsConstructor
+    @Getter
+    private static class TestErrorCodeMapper implements ErrorCodeMapper<TestErrorCode> {
+
+        private final ErrorCodeRegistry<TestErrorCode> errorCodeRegistry;
+        private final HttpStatus defaultHttpStatus = HttpStatus.INTERNAL_SERVER_ERROR;
+        private final TestErrorCode defaultErrorCode = TestErrorCode.INTERNAL_ERROR;
+
+        TestErrorCodeMapper() {
+            this(new TestErrorCodeRegistry());
+        }
+
+    }
+
 }
@@ -2,6 +2,10 @@ package guru.nicks.commons.cucumber;
 
 import guru.nicks.commons.exception.BusinessException;
 import guru.nicks.commons.exception.ExceptionConverter;
+import guru.nicks.commons.exception.ExceptionConverterDescriptor;
+import guru.nicks.commons.exception.config.CommonsExceptionConverterAutoConfiguration;
+import guru.nicks.commons.exception.converter.BuiltInExceptionConverters;
+import guru.nicks.commons.utils.ReflectionUtils;
 
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
@@ -13,6 +17,14 @@ import lombok.Getter;
 import org.apache.commons.beanutils.ConstructorUtils;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +39,8 @@ public class ExceptionConverterSteps {
     private BusinessException convertedException;
     private Class<?> retrievedSourceClass;
     private Class<?> retrievedTargetClass;
+    private ExceptionConverterDescriptor<?, ?> descriptor;
+    private Collection<ExceptionConverterDescriptor<?, ?>> builtInDescriptors;
 
     @Before
     public void beforeEachScenario() {
@@ -75,6 +89,82 @@ public class ExceptionConverterSteps {
         retrievedTargetClass = converter.getTargetClass();
     }
 
+    @When("converter class {string} is described")
+    public void converterClassIsDescribed(String converterClassName) throws ClassNotFoundException {
+        descriptor = ExceptionConverterDescriptor.forConverterClass(Class.forName(converterClassName));
+    }
+
+    @Then("the descriptor source class should be {string}")
+    public void theDescriptorSourceClassShouldBe(String expectedClassName) throws ClassNotFoundException {
+        assertThat(descriptor.getSourceClass())
+                .as("descriptor.sourceClass")
+                .isEqualTo(Class.forName(expectedClassName));
+    }
+
+    @Then("the descriptor target class should be {string}")
+    public void theDescriptorTargetClassShouldBe(String expectedClassName) throws ClassNotFoundException {
+        assertThat(descriptor.getTargetClass())
+                .as("descriptor.targetClass")
+                .isEqualTo(Class.forName(expectedClassName));
+    }
+
+    @Then("the descriptor should be cached")
+    public void theDescriptorShouldBeCached() {
+        assertThat(ExceptionConverterDescriptor.forConverterClass(descriptor.getConverterClass()))
+                .as("cached descriptor")
+                .isSameAs(descriptor);
+    }
+
+    @When("built-in converter descriptors are retrieved")
+    public void builtInConverterDescriptorsAreRetrieved() {
+        builtInDescriptors = BuiltInExceptionConverters.getDescriptors();
+    }
+
+    @Then("each descriptor should match generic class parameters of its converter class")
+    public void eachDescriptorShouldMatchGenericClassParameters() throws NoSuchMethodException {
+        assertThat(builtInDescriptors)
+                .as("builtInDescriptors")
+                .isNotEmpty();
+
+        for (var builtInDescriptor : builtInDescriptors) {
+            Class<?> converterClass = builtInDescriptor.getConverterClass();
+
+            assertThat(builtInDescriptor.getSourceClass())
+                    .as("sourceClass of " + converterClass.getName())
+                    .isEqualTo(ReflectionUtils.findMaterializedGenericType(converterClass,
+                            ExceptionConverter.STATIC_THIS, Throwable.class).orElseThrow());
+            assertThat(builtInDescriptor.getTargetClass())
+                    .as("targetClass of " + converterClass.getName())
+                    .isEqualTo(ReflectionUtils.findMaterializedGenericType(converterClass,
+                            ExceptionConverter.STATIC_THIS, BusinessException.class).orElseThrow());
+            assertThat(builtInDescriptor.isDefaultConversion())
+                    .as("defaultConversion of " + converterClass.getName())
+                    .isEqualTo(converterClass.getMethod("convert", Throwable.class).getDeclaringClass()
+                            == ExceptionConverter.class);
+            assertThat(ExceptionConverterDescriptor.forConverterClass(converterClass))
+                    .as("cached descriptor of " + converterClass.getName())
+                    .isSameAs(builtInDescriptor);
+        }
+    }
+
+    @Then("each converter bean created by autoconfiguration should have a precompiled descriptor")
+    public void eachConverterBeanShouldHavePrecompiledDescriptor() {
+        // nested configurations depending on optional classes are skipped: such converters can't be in the table
+        Set<Class<?>> beanClasses = Stream.concat(
+                        Stream.of(CommonsExceptionConverterAutoConfiguration.class),
+                        Arrays.stream(CommonsExceptionConverterAutoConfiguration.class.getDeclaredClasses())
+                                .filter(nestedClass -> !nestedClass.isAnnotationPresent(ConditionalOnClass.class)))
+                .flatMap(configurationClass -> Arrays.stream(configurationClass.getMethods()))
+                .map(Method::getReturnType)
+                .filter(ExceptionConverter.class::isAssignableFrom)
+                .collect(Collectors.toSet());
+
+        assertThat(builtInDescriptors)
+                .as("builtInDescriptors")
+                .extracting(ExceptionConverterDescriptor::getConverterClass)
+                .containsExactlyInAnyOrderElementsOf(beanClasses);
+    }
+
     @Then("the converted exception should be of the target type")
     public void theConvertedExceptionShouldBeOfTheTargetType() {
         assertThat(convertedException)
@@ -11,11 +11,13 @@ import io.cucumber.java.en.When;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -65,6 +67,8 @@ public class SubclassBeforeSuperclassExceptionIteratorSteps {
     @Setter
     private List<String> iterationOrder;
 
+    private long orderCacheHitCount;
+
     @Given("an exception chain with types {string}")
     public void anExceptionChainWithTypes(String exceptionTypes) {
         var typeNames = Arrays.stream(exceptionTypes.split(","))
@@ -74,6 +78,38 @@ public class SubclassBeforeSuperclassExceptionIteratorSteps {
         exceptionChain = createExceptionChain(typeNames);
     }
 
+    @Given("a cyclic exception chain of RuntimeException and Exception")
+    public void aCyclicExceptionChainOfRuntimeExceptionAndException() {
+        // constructors accepting cause forbid changing it later
+        var runtimeException = new RuntimeException("RuntimeException message");
+        runtimeException.initCause(new Exception("Exception message", runtimeException));
+        exceptionChain = runtimeException;
+    }
+
+    @Given("the exception chain has suppressed exceptions {string}")
+    public void theExceptionChainHasSuppressedExceptions(String exceptionTypes) {
+        Arrays.stream(exceptionTypes.split(","))
+                .map(String::strip)
+                .map(typeName -> createExceptionByName(typeName, null))
+                .forEach(exceptionChain::addSuppressed);
+    }
+
+    @Given("the cause of the exception chain suppresses the exception chain")
+    public void theCauseOfTheExceptionChainSuppressesTheExceptionChain() {
+        exceptionChain.getCause().addSuppressed(exceptionChain);
+    }
+
+    @Given("a chain of {int} RuntimeException wrapping NotFoundException")
+    public void aChainOfRuntimeExceptionWrappingNotFoundException(int length) {
+        Throwable current = new NotFoundException("NotFoundException message");
+
+        for (int i = 0; i < length; i++) {
+            current = new RuntimeException("RuntimeException message", current);
+        }
+
+        exceptionChain = current;
+    }
+
     @Given("an exception chain with duplicate exception types")
     public void anExceptionChainWithDuplicateExceptionTypes() {
         // create chain: RuntimeException -> RuntimeException -> Exception
@@ -123,6 +159,31 @@ public class SubclassBeforeSuperclassExceptionIteratorSteps {
                 iterator = new SubclassBeforeSuperclassExceptionIterator(exceptionChain)));
     }
 
+    @When("a SubclassBeforeSuperclassExceptionIterator is created over the exception tree")
+    public void aSubclassBeforeSuperclassExceptionIteratorIsCreatedOverTheExceptionTree() {
+        textWorld.setLastException(catchThrowable(() ->
+                iterator = SubclassBeforeSuperclassExceptionIterator.ofTree(exceptionChain)));
+    }
+
+    @When("a SubclassBeforeSuperclassExceptionIterator is created over the exception tree with maximum depth {int} "
+            + "and breadth {int}")
+    public void aSubclassBeforeSuperclassExceptionIteratorIsCreatedOverTheExceptionTreeWithMaximumDepthAndBreadth(
+            int maxDepth, int maxBreadth) {
+        textWorld.setLastException(catchThrowable(() ->
+                iterator = SubclassBeforeSuperclassExceptionIterator.ofTree(exceptionChain, maxDepth, maxBreadth)));
+    }
+
+    @When("a SubclassBeforeSuperclassExceptionIterator is created with another exception chain of the same types")
+    public void aSubclassBeforeSuperclassExceptionIteratorIsCreatedWithAnotherExceptionChainOfTheSameTypes() {
+        var typeNames = ExceptionUtils.getThrowableList(exceptionChain)
+                .stream()
+                .map(throwable -> throwable.getClass().getSimpleName())
+                .toList();
+
+        orderCacheHitCount = SubclassBeforeSuperclassExceptionIterator.getOrderCacheHitCount();
+        iterator = new SubclassBeforeSuperclassExceptionIterator(createExceptionChain(typeNames));
+    }
+
     @When("acceptUntilResult is called with the stateless visitor")
     public void acceptUntilResultIsCalledWithTheStatelessVisitor() {
         visitorResult = iterator.acceptUntilResult(statelessVisitor);
@@ -158,6 +219,23 @@ public class SubclassBeforeSuperclassExceptionIteratorSteps {
                 .isEqualTo(expectedOrderList);
     }
 
+    @Then("the chain order cache hit count should have increased")
+    public void theChainOrderCacheHitCountShouldHaveIncreased() {
+        assertThat(SubclassBeforeSuperclassExceptionIterator.getOrderCacheHitCount())
+                .as("order cache hit count")
+                .isGreaterThan(orderCacheHitCount);
+        assertThat(SubclassBeforeSuperclassExceptionIterator.getOrderCacheHitRate())
+                .as("order cache hit rate")
+                .isBetween(0.0, 1.0);
+    }
+
+    @Then("getting next element should fail")
+    public void gettingNextElementShouldFail() {
+        assertThat(catchThrowable(iterator::next))
+                .as("exception")
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
     @Then("the iterator should support stream operations")
     public void theIteratorShouldSupportStreamOperations() {
         iteratorStream = iterator.stream();
@@ -11,6 +11,22 @@ Feature: ExceptionConverter
     When the target class is retrieved from the converter
     Then the target class should be TestBusinessException
 
+  Scenario Outline: Describing converter class
+    When converter class "<converterClass>" is described
+    Then the descriptor source class should be "<sourceClass>"
+    And the descriptor target class should be "<targetClass>"
+    And the descriptor should be cached
+    Examples:
+      | converterClass                                                       | sourceClass                                          | targetClass                                                |
+      | guru.nicks.commons.exception.converter.ConnectExceptionConverter     | java.net.ConnectException                            | guru.nicks.commons.exception.http.ServiceTimeoutException  |
+      | guru.nicks.commons.exception.converter.MultipartExceptionConverter   | org.springframework.web.multipart.MultipartException | guru.nicks.commons.exception.http.PayloadTooLargeException |
+      | guru.nicks.commons.exception.converter.BusinessExceptionConverter    | guru.nicks.commons.exception.BusinessException       | guru.nicks.commons.exception.BusinessException             |
+
+  Scenario: Precompiled built-in converter table matches generic class parameters
+    When built-in converter descriptors are retrieved
+    Then each descriptor should match generic class parameters of its converter class
+    And each converter bean created by autoconfiguration should have a precompiled descriptor
+
   Scenario: Converting an exception using custom implementation
     Given a custom exception converter with specific conversion logic
     When the converter is used to convert an exception with message "test message"
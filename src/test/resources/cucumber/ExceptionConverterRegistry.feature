@@ -22,6 +22,255 @@ Feature: ExceptionConverterRegistry
     Given an exception converter registry with converters
     When the registry is initialized
 
+  Scenario: Registry exposes converter descriptors
+    Given an exception converter registry with converters for different exception types
+    Then converter descriptors should have source classes "java.lang.ArrayIndexOutOfBoundsException, java.lang.IllegalArgumentException, java.lang.NullPointerException, java.lang.UnsupportedOperationException"
+    And each converter descriptor should have a target class
+
+  Scenario: Target exception lacking constructor accepting cause is rejected at startup
+    Given an exception converter registry with a converter whose target exception has no cause constructor
+    When the registry is initialized
+    Then registry initialization should fail with message containing "can't create its target exception"
+
+  Scenario Outline: Verifying converters at startup depending on verification mode
+    Given an exception converter registry with a converter "<converter>" and verification "<verification>"
+    When the registry is initialized
+    Then registry initialization result should be "<result>"
+    Examples:
+      | converter              | verification | result                            |
+      | failing on invocation  | FULL         | Unexpected error from             |
+      | failing on invocation  | STRUCTURAL   | success                           |
+      | failing on invocation  | OFF          | success                           |
+      | without target factory | FULL         | can't create its target exception |
+      | without target factory | STRUCTURAL   | can't create its target exception |
+      | without target factory | OFF          | Failed to bind factory            |
+
+  Scenario: Initializing registry in background
+    Given an exception converter registry with built-in converters and background initialization
+    When the registry is initialized
+    And an exception of type "java.lang.IllegalArgumentException" is converted
+    Then the result should be a business exception
+    And registry initialization should complete
+
+  Scenario: Background initialization failure is reported on lookup
+    Given an exception converter registry with a converter "without target factory" and background initialization
+    When the registry is initialized
+    Then looking up a converter for exception type "java.lang.IllegalStateException" should fail with message containing "failed to initialize"
+
+  Scenario: Lookups are not blocked while converters are being updated
+    Given an exception converter registry with built-in converters
+    When a plugin converter blocking in verification is being registered
+    Then 8 threads should convert "java.lang.IllegalArgumentException" to "guru.nicks.commons.exception.http.BadRequestException" 10000 times each meanwhile
+    And the registry epoch should be 1
+    When the plugin converter is released
+    Then the registry epoch should be 2
+    When an exception of type "guru.nicks.commons.cucumber.ExceptionConverterRegistrySteps$PluginException" is converted
+    Then the converted exception should be an instance of "guru.nicks.commons.exception.http.ConflictException"
+
+  Scenario: Lookups see consistent converters while converters are repeatedly updated
+    Given an exception converter registry with built-in converters
+    When a plugin converter is registered and unregistered 50 times while 8 threads convert exceptions
+    Then no reader should have failed
+    And the registry epoch should be 101
+
+  Scenario: Invalid converter update leaves the registry intact
+    Given an exception converter registry with built-in converters
+    When a converter for an already converted exception class is registered
+    Then the registry update should fail with message containing "Collision detected"
+    And the registry epoch should be 1
+    When an exception of type "java.lang.IllegalArgumentException" is converted
+    Then the converted exception should be an instance of "guru.nicks.commons.exception.http.BadRequestException"
+
+  Scenario Outline: Converter lookups don't prevent exception classes from being unloaded
+    Given an exception converter registry with built-in converters, lookup mode "<lookupMode>" and weak cache keys
+    When an exception loaded by a throwaway class loader is converted to "guru.nicks.commons.exception.http.BadRequestException"
+    Then the throwaway class loader should be unloaded
+    Examples:
+      | lookupMode  |
+      | CACHE       |
+      | CLASS_VALUE |
+      | DISPATCHER  |
+
+  Scenario: Publishing Micrometer meters
+    Given an exception converter registry with built-in converters and Micrometer meters
+    When exceptions of types "java.lang.IllegalArgumentException, java.lang.IllegalArgumentException, java.sql.SQLException" are converted one by one
+    Then meter "exception.converter.lookups" tagged "result=found" should measure 2
+    And meter "exception.converter.lookups" tagged "result=not_found" should measure 1
+    And meter "exception.converter.cache.gets" tagged "result=hit" should measure 1
+    And meter "exception.converter.cache.gets" tagged "result=miss" should measure 2
+    And meter "exception.converter.cache.size" tagged "" should measure 2
+    And meter "exception.converter.conversions" tagged "target=BadRequestException, error.code=BAD_REQUEST" should measure 2
+    And meter "exception.converter.conversions" tagged "target=UnauthorizedException, error.code=UNAUTHORIZED" should measure 0
+
+  Scenario: Counting conversions by class of exception created
+    Given an exception converter registry with HTTP client converters and Micrometer meters
+    When a "Feign" exception with HTTP status 409 is converted
+    And a "Feign" exception with HTTP status 409 is converted
+    And a "Feign" exception with HTTP status 404 is converted
+    Then meter "exception.converter.conversions" tagged "target=ConflictException, error.code=CONFLICT" should measure 2
+    And meter "exception.converter.conversions" tagged "target=BusinessException, error.code=INTERNAL_ERROR" should measure 1
+
+  Scenario: Lookups made in advance are not counted as cache gets
+    Given an exception converter registry with built-in converters, Micrometer meters and pre-population of package "guru.nicks.commons.exception.http"
+    When the registry is initialized
+    Then pre-population should look up converters for at least 9 exception classes
+    When exceptions of types "java.lang.IllegalArgumentException, java.lang.IllegalArgumentException" are converted one by one
+    Then meter "exception.converter.cache.gets" tagged "result=hit" should measure 1
+    And meter "exception.converter.cache.gets" tagged "result=miss" should measure 1
+
+  Scenario: Publishing Micrometer meters for bulk conversion
+    Given an exception converter registry with built-in converters and Micrometer meters
+    When exceptions "java.lang.IllegalArgumentException, java.lang.IllegalArgumentException, java.sql.SQLException" are converted in bulk sequentially
+    Then meter "exception.converter.lookups" tagged "result=found" should measure 1
+    And meter "exception.converter.lookups" tagged "result=not_found" should measure 1
+    And meter "exception.converter.cache.gets" tagged "result=hit" should measure 0
+    And meter "exception.converter.cache.gets" tagged "result=miss" should measure 2
+    And meter "exception.converter.conversions" tagged "target=BadRequestException, error.code=BAD_REQUEST" should measure 2
+
+  Scenario: Emitting JFR events
+    Given an exception converter registry with built-in converters
+    When exceptions of types "java.lang.IllegalArgumentException, java.lang.IllegalArgumentException, java.sql.SQLException" are converted while JFR is recording
+    Then JFR should have recorded 3 "ExceptionConversion" events, 1 of them being cache hits
+    And JFR should have recorded 2 "ConverterLookupMiss" events
+
+  Scenario: JFR events are disabled in default recording settings
+    Given an exception converter registry with built-in converters
+    When exceptions of types "java.lang.IllegalArgumentException, java.sql.SQLException" are converted while JFR is recording with default settings
+    Then JFR should have recorded 0 "ExceptionConversion" events
+    And JFR should have recorded 0 "ConverterLookupMiss" events
+
+  Scenario: Error code registry precomputes HTTP statuses and exception classes of error codes
+    Then precomputed HTTP statuses and exception classes of all error codes should match closest superclass lookups
+
+  Scenario: Error code registry caches error codes and HTTP statuses of exception classes
+    Then cached error codes and HTTP statuses of exception classes should match closest superclass lookups
+
+  Scenario Outline: Resolving exceptions in a single pass
+    Given an exception resolver with built-in converters
+    When a "<exceptionType>" exception wrapped in RuntimeException is resolved
+    Then the resolution should be the same as applying visitors and error code mapper separately
+    And the resolved error code should be "<errorCode>" and field errors should be "<fieldNames>"
+    And resolving the same exception again should give the same error code and HTTP status
+    Examples:
+      | exceptionType            | errorCode      | fieldNames |
+      | BindException            | BAD_REQUEST    | email      |
+      | IllegalArgumentException | BAD_REQUEST    |            |
+      | IllegalStateException    | CONFLICT       |            |
+      | Exception                | INTERNAL_ERROR |            |
+
+  Scenario: Resolving exceptions with an error code mapper depending on exception instances
+    Given an exception resolver with an error code mapper treating causes with message "conflict" as CONFLICT
+    When an IllegalArgumentException with message "Invalid argument" wrapped in RuntimeException is resolved
+    Then the resolved error code should be "BAD_REQUEST" and field errors should be ""
+    When an IllegalArgumentException with message "conflict" wrapped in RuntimeException is resolved
+    Then the resolved error code should be "CONFLICT" and field errors should be ""
+
+  Scenario Outline: Converting HTTP client exceptions by downstream HTTP status
+    Given an exception converter registry with built-in converters and HTTP client converters
+    When a "<client>" exception with HTTP status <status> is converted
+    Then the converted exception class should be "<resultType>"
+    Examples:
+      | client     | status | resultType                                                |
+      | Feign      | 409    | guru.nicks.commons.exception.http.ConflictException       |
+      | Feign      | 503    | guru.nicks.commons.exception.http.ServiceTimeoutException |
+      | Feign      | 404    | guru.nicks.commons.exception.BusinessException            |
+      | Feign      | -1     | guru.nicks.commons.exception.BusinessException            |
+      | RestClient | 400    | guru.nicks.commons.exception.http.BadRequestException     |
+      | RestClient | 401    | guru.nicks.commons.exception.http.UnauthorizedException   |
+      | RestClient | 999    | guru.nicks.commons.exception.BusinessException            |
+      | WebClient  | 501    | guru.nicks.commons.exception.http.NotImplementedException |
+      | WebClient  | 418    | guru.nicks.commons.exception.BusinessException            |
+
+  Scenario Outline: Creating target exceptions without stack traces
+    Given an exception converter registry with built-in converters and stackless target exceptions
+    When an exception of type "<exceptionType>" is converted
+    Then the converted exception should be a subclass of "<resultType>" without stack trace
+    Examples:
+      | exceptionType                           | resultType                                                |
+      | java.net.ConnectException               | guru.nicks.commons.exception.http.ServiceTimeoutException |
+      | java.lang.SecurityException             | guru.nicks.commons.exception.http.UnauthorizedException   |
+      | java.lang.UnsupportedOperationException | guru.nicks.commons.exception.http.NotImplementedException |
+
+  Scenario Outline: Creating HTTP client converter target exceptions without stack traces
+    Given an exception converter registry with HTTP client converters and stackless target exceptions
+    When a "<client>" exception with HTTP status <status> is converted
+    Then the converted exception should be a subclass of "<resultType>" without stack trace
+    Examples:
+      | client     | status | resultType                                                |
+      | Feign      | 409    | guru.nicks.commons.exception.http.ConflictException       |
+      | Feign      | 404    | guru.nicks.commons.exception.BusinessException            |
+      | RestClient | 400    | guru.nicks.commons.exception.http.BadRequestException     |
+      | WebClient  | 501    | guru.nicks.commons.exception.http.NotImplementedException |
+
+  Scenario: HTTP client converter reports target exceptions which can't be created
+    Given an exception converter registry with HTTP client converters whose target exception can't be created
+    When a "Feign" exception with HTTP status 409 fails to be converted
+    Then conversion should fail with message "Failed to instantiate guru.nicks.commons.cucumber.ExceptionConverterRegistrySteps$UncreatableConflictException" caused by "Conflict can't be created"
+
+  Scenario: Target exception declaring constructor accepting writableStackTrace keeps its class
+    Given an exception converter registry with a stackless converter whose final target exception class accepts writableStackTrace
+    When an exception of type "java.lang.IllegalArgumentException" is converted
+    Then the converted exception should be exactly of class "guru.nicks.commons.cucumber.ExceptionConverterRegistrySteps$WritableStackTraceBusinessException" without stack trace
+
+  Scenario: Target exception which can't be created without stack trace is rejected at startup
+    Given an exception converter registry with a stackless converter whose target exception class is final
+    When the registry is initialized
+    Then registry initialization should fail with message containing "can't be created without stack trace"
+
+  Scenario Outline: All lookup modes find the same converters
+    Given exception converter registries with built-in converters in all lookup modes
+    When an exception of type "<exceptionType>" is converted by each registry
+    Then each registry should convert it to "<resultType>"
+    Examples:
+      | exceptionType                                    | resultType                                                |
+      | java.lang.IllegalArgumentException               | guru.nicks.commons.exception.http.BadRequestException     |
+      | java.lang.NumberFormatException                  | guru.nicks.commons.exception.http.BadRequestException     |
+      | java.net.ConnectException                        | guru.nicks.commons.exception.http.ServiceTimeoutException |
+      | java.lang.SecurityException                      | guru.nicks.commons.exception.http.UnauthorizedException   |
+      | java.lang.IllegalStateException                  | guru.nicks.commons.exception.http.ConflictException       |
+      | java.lang.UnsupportedOperationException          | guru.nicks.commons.exception.http.NotImplementedException |
+      | org.apache.commons.lang3.NotImplementedException | guru.nicks.commons.exception.http.NotImplementedException |
+      | java.io.IOException                              | none                                                      |
+      | java.lang.RuntimeException                       | none                                                      |
+
+  Scenario: Dispatcher lookup falls back to cache if a source class is inaccessible
+    Given an exception converter registry in dispatcher lookup mode with a converter for a private exception class
+    When an exception of the private class is converted
+    Then the registry lookup mode should be "CACHE"
+    And the result should be a business exception
+
+  Scenario Outline: Converting many exceptions at once
+    Given an exception converter registry with built-in converters
+    When exceptions "<exceptions>" are converted in bulk <how>
+    Then bulk conversion results should be "<results>"
+    And bulk conversion results should be the same as converting each exception chain separately
+    And bulk conversion results should be paired with error codes "<errorCodes>"
+    Examples:
+      | exceptions                                                                                                      | how                 | results                                              | errorCodes                                    |
+      | java.lang.IllegalArgumentException, java.io.IOException, java.lang.IllegalArgumentException                     | sequentially        | BadRequestException, none, BadRequestException       | BAD_REQUEST, INTERNAL_ERROR, BAD_REQUEST      |
+      | java.lang.RuntimeException > java.net.ConnectException, java.lang.SecurityException, null                       | sequentially        | ServiceTimeoutException, UnauthorizedException, none | SERVICE_TIMEOUT, UNAUTHORIZED, INTERNAL_ERROR |
+      | java.lang.RuntimeException > java.lang.NumberFormatException, java.lang.IllegalStateException, null             | in a fork-join pool | BadRequestException, ConflictException, none         | BAD_REQUEST, CONFLICT, INTERNAL_ERROR         |
+      | java.lang.SecurityException, java.lang.UnsupportedOperationException, java.lang.Exception > java.io.IOException | in a fork-join pool | UnauthorizedException, NotImplementedException, none | UNAUTHORIZED, NOT_IMPLEMENTED, INTERNAL_ERROR |
+
+  Scenario: Pre-populating converter lookups at startup
+    Given an exception converter registry with built-in converters and pre-population of package "guru.nicks.commons.exception.http"
+    When the registry is initialized
+    Then pre-population should look up converters for at least 9 exception classes
+
+  Scenario: Remembering exception classes across restarts
+    Given an exception converter registry with built-in converters and an exception class profile
+    When the registry is initialized
+    And exceptions "java.lang.IllegalArgumentException, java.util.concurrent.TimeoutException" are converted in bulk sequentially
+    And the registry is shut down
+    Then the exception class profile should list "java.lang.IllegalArgumentException, java.util.concurrent.TimeoutException"
+    When the registry is restarted with the same exception class profile
+    Then pre-population should look up converters for exactly 2 exception classes
+
+  Scenario: Skipping missing classes listed in exception class profile
+    Given an exception converter registry with built-in converters and an exception class profile listing "com.example.MissingException, java.lang.IllegalArgumentException"
+    When the registry is initialized
+    Then pre-population should look up converters for exactly 1 exception classes
+
   Scenario: Converting exceptions with found converter
     Given an exception converter registry with converters for different exception types
     When an exception of type "java.lang.IllegalArgumentException" is converted
@@ -18,6 +18,68 @@ Feature: SubclassBeforeSuperclassExceptionIterator functionality
       | NotFoundException,UnauthorizedException,Exception | NotFoundException,UnauthorizedException,Exception |
       | Exception,UnauthorizedException,NotFoundException | UnauthorizedException,NotFoundException,Exception |
 
+  Scenario Outline: Chains longer than inline capacity are ordered the same way
+    Given an exception chain with types "<exceptionTypes>"
+    When a SubclassBeforeSuperclassExceptionIterator is created with the exception chain
+    Then the iteration order should be "<expectedOrder>"
+    Examples:
+      | exceptionTypes                                                                                                                                                    | expectedOrder                                                      |
+      | Exception,NotFoundException,RuntimeException,UnauthorizedException                                                                                                | NotFoundException,UnauthorizedException,RuntimeException,Exception |
+      | Exception,NotFoundException,RuntimeException,UnauthorizedException,Exception,NotFoundException,RuntimeException,UnauthorizedException,Exception,NotFoundException | NotFoundException,UnauthorizedException,RuntimeException,Exception |
+
+  Scenario: Iterator stops on cyclic exception chain
+    Given a cyclic exception chain of RuntimeException and Exception
+    When a SubclassBeforeSuperclassExceptionIterator is created with the exception chain
+    Then the iteration order should be "RuntimeException,Exception"
+
+  Scenario Outline: Tree traversal finds suppressed exceptions within limits
+    Given an exception chain with types "<exceptionTypes>"
+    And the exception chain has suppressed exceptions "<suppressedTypes>"
+    When a SubclassBeforeSuperclassExceptionIterator is created over the exception tree with maximum depth <maxDepth> and breadth <maxBreadth>
+    Then no exception should be thrown
+    And the iteration order should be "<expectedOrder>"
+    Examples:
+      | exceptionTypes             | suppressedTypes                         | maxDepth | maxBreadth | expectedOrder                                     |
+      | Exception                  | NotFoundException,UnauthorizedException | 2        | 16         | NotFoundException,UnauthorizedException,Exception |
+      | Exception                  | NotFoundException,UnauthorizedException | 2        | 1          | NotFoundException,Exception                       |
+      | Exception                  | NotFoundException,UnauthorizedException | 1        | 16         | Exception                                         |
+      | Exception,RuntimeException | UnauthorizedException                   | 2        | 16         | UnauthorizedException,RuntimeException,Exception  |
+      | Exception,RuntimeException | UnauthorizedException                   | 2        | 1          | RuntimeException,Exception                        |
+
+  Scenario: Tree traversal skips exceptions already seen
+    Given an exception chain with types "Exception,RuntimeException"
+    And the cause of the exception chain suppresses the exception chain
+    When a SubclassBeforeSuperclassExceptionIterator is created over the exception tree
+    Then the iteration order should be "RuntimeException,Exception"
+
+  Scenario: Tree traversal stops at maximum depth
+    Given a chain of 10000 RuntimeException wrapping NotFoundException
+    When a SubclassBeforeSuperclassExceptionIterator is created over the exception tree
+    Then the iteration order should be "RuntimeException"
+
+  Scenario: Very long chains are traversed entirely
+    Given a chain of 10000 RuntimeException wrapping NotFoundException
+    When a SubclassBeforeSuperclassExceptionIterator is created with the exception chain
+    Then the iteration order should be "NotFoundException,RuntimeException"
+
+  Scenario: Tree traversal limits are validated
+    Given an exception chain with types "Exception"
+    When a SubclassBeforeSuperclassExceptionIterator is created over the exception tree with maximum depth 0 and breadth 1
+    Then the exception message should contain "must be positive"
+
+  Scenario: Iterator fails when exhausted
+    Given an exception chain with types "RuntimeException"
+    When a SubclassBeforeSuperclassExceptionIterator is created with the exception chain
+    Then the iteration order should be "RuntimeException"
+    And getting next element should fail
+
+  Scenario: Order of recurring chain is taken from cache
+    Given an exception chain with types "Exception,UnauthorizedException,NotFoundException"
+    When a SubclassBeforeSuperclassExceptionIterator is created with the exception chain
+    And a SubclassBeforeSuperclassExceptionIterator is created with another exception chain of the same types
+    Then the iteration order should be "UnauthorizedException,NotFoundException,Exception"
+    And the chain order cache hit count should have increased
+
   Scenario: Iterator supports Streamable interface
     Given an exception chain with types "RuntimeException,Exception"
     When a SubclassBeforeSuperclassExceptionIterator is created with the exception chain
@@ -35,6 +97,9 @@ Feature: SubclassBeforeSuperclassExceptionIterator functionality
       | RuntimeException,Exception  | RuntimeException  | found          |
       | RuntimeException,Exception  | NotFoundException | empty          |
       | NotFoundException,Exception | NotFoundException | found          |
+      | NotFoundException           | NotFoundException | found          |
+      | NotFoundException           | RuntimeException  | empty          |
+      | Exception,NotFoundException | NotFoundException | found          |
 
   Scenario Outline: AcceptUntilResult with stateful visitor
     Given an exception chain with types "<exceptionTypes>"